@@ -0,0 +1,25 @@
+package com.ovunix.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+/**
+ * Test de charge de bout en bout d'{@code AbstractServiceImpl} sur H2 embarqué (Java 21 : threads virtuels).
+ * <p>
+ * Lancement, après {@code mvn install} à la racine :
+ * <pre>
+ * mvn -f loadtest/pom.xml spring-boot:run -Dspring-boot.run.arguments="--loadtest.threads=256 --loadtest.service=tunedArticleService"
+ * </pre>
+ * Les paramètres ({@code loadtest.*}, voir {@link com.ovunix.loadtest.harness.LoadTestProperties}) ont leurs
+ * valeurs par défaut dans {@code application.properties}. Le rapport est affiché puis écrit en JSON
+ * ({@code loadtest.output}) pour comparer deux exécutions.
+ */
+@SpringBootApplication(scanBasePackages = {"com.ovunix.loadtest", "com.ovunix.core.service"})
+@ConfigurationPropertiesScan
+public class LoadTestApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(LoadTestApplication.class, args);
+    }
+}
@@ -0,0 +1,137 @@
+package com.ovunix.loadtest.bench;
+
+import com.ovunix.core.utils.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formats {@code yyyyMMyy} et {@code yyyyMMdd} : chemins directs de {@link DateUtils} face au code qu'ils
+ * remplacent ({@code baseline*} : {@link DateTimeFormatter} recréé à chaque appel, {@code substring} et
+ * {@code Integer.parseInt}, {@link DateTimeFormatter#BASIC_ISO_DATE}). Chaque mesure traite 1024 valeurs.
+ * <p>
+ * Lancement, après {@code mvn install} à la racine et {@code mvn -f loadtest/pom.xml package} :
+ * <pre>
+ * mvn -q -f loadtest/pom.xml dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp loadtest/target/classes:$(cat loadtest/target/classpath.txt) org.openjdk.jmh.Main DateUtilsBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private LocalDate[] dates;
+    private String[] yearMonthYears;
+    private String[] basicIsoDates;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        dates = new LocalDate[SIZE];
+        yearMonthYears = new String[SIZE];
+        basicIsoDates = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            dates[i] = LocalDate.ofEpochDay(random.nextInt(-10_000, 30_000));
+            yearMonthYears[i] = DateUtils.formatToYearMonthYear(dates[i]);
+            basicIsoDates[i] = DateUtils.formatToBasicIsoDate(dates[i]);
+        }
+    }
+
+    @Benchmark
+    public void baselineFormatYearMonthYear(Blackhole blackhole) {
+        for (LocalDate date : dates) {
+            blackhole.consume(date.format(DateTimeFormatter.ofPattern("yyyyMMyy")));
+        }
+    }
+
+    @Benchmark
+    public void formatYearMonthYear(Blackhole blackhole) {
+        for (LocalDate date : dates) {
+            blackhole.consume(DateUtils.formatToYearMonthYear(date));
+        }
+    }
+
+    @Benchmark
+    public void baselineParseYearMonthYear(Blackhole blackhole) {
+        for (String value : yearMonthYears) {
+            blackhole.consume(baselineParseFromYearMonthYear(value));
+        }
+    }
+
+    @Benchmark
+    public void parseYearMonthYear(Blackhole blackhole) {
+        for (String value : yearMonthYears) {
+            blackhole.consume(DateUtils.parseFromYearMonthYear(value));
+        }
+    }
+
+    @Benchmark
+    public void baselineFormatBasicIsoDate(Blackhole blackhole) {
+        for (LocalDate date : dates) {
+            blackhole.consume(date.format(DateTimeFormatter.BASIC_ISO_DATE));
+        }
+    }
+
+    @Benchmark
+    public void formatBasicIsoDate(Blackhole blackhole) {
+        for (LocalDate date : dates) {
+            blackhole.consume(DateUtils.formatToBasicIsoDate(date));
+        }
+    }
+
+    @Benchmark
+    public void baselineParseBasicIsoDate(Blackhole blackhole) {
+        for (String value : basicIsoDates) {
+            blackhole.consume(LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE));
+        }
+    }
+
+    @Benchmark
+    public void parseBasicIsoDate(Blackhole blackhole) {
+        for (String value : basicIsoDates) {
+            blackhole.consume(DateUtils.parseBasicIsoDate(value));
+        }
+    }
+
+    @Benchmark
+    public int[] epochDaysFromBasicIsoDate() {
+        return DateUtils.toEpochDaysFromBasicIsoDate(basicIsoDates);
+    }
+
+    /**
+     * {@code DateUtils.parseFromYearMonthYear} avant les chemins directs.
+     */
+    private static LocalDate baselineParseFromYearMonthYear(String dateStr) {
+        if (dateStr == null || dateStr.length() != 8) {
+            throw new IllegalArgumentException("La date doit être au format 'yyyyMMyy' et contenir exactement 8 caractères");
+        }
+        try {
+            int yearFull = Integer.parseInt(dateStr.substring(0, 4));
+            int month = Integer.parseInt(dateStr.substring(4, 6));
+            int yearShort = Integer.parseInt(dateStr.substring(6, 8));
+            int yearFinal = (yearShort >= 50) ? 1900 + yearShort : 2000 + yearShort;
+            return LocalDate.of(yearFinal, month, 1);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Format de date invalide : " + dateStr, e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.ovunix.loadtest.bench;
+
+import com.ovunix.core.utils.Tools;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.text.Normalizer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * {@link Tools#removeAccents(String)} et {@link Tools#isValidEmail(String)} face au code qu'ils remplacent
+ * ({@code baseline*} : normalisation NFD avec motif recompilé, {@code Pattern.matches}). Chaque mesure traite
+ * 1024 valeurs ; {@code text} choisit des noms purement ASCII, accentués (latin) ou hors table (grec).
+ * <p>
+ * Lancement : voir {@link DateUtilsBenchmark}, avec {@code ToolsBenchmark} comme filtre.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToolsBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+
+    @Param({"ascii", "latin", "greek"})
+    public String text;
+
+    private String[] names;
+    private String[] emails;
+
+    @Setup
+    public void setUp() {
+        String alphabet = switch (text) {
+            case "ascii" -> "abcdefghijklmnopqrstuvwxyz";
+            case "latin" -> "abcdeéèêëàâäîïôöùûüçœ";
+            case "greek" -> "αβγδεζηθικλμνξοπρστυφχψωάέήίόύώ";
+            default -> throw new IllegalArgumentException(text);
+        };
+        SplittableRandom random = new SplittableRandom(42);
+        names = new String[SIZE];
+        emails = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            names[i] = word(random, alphabet, 6, 16) + ' ' + word(random, alphabet, 6, 16);
+            emails[i] = random.nextInt(10) == 0
+                    ? word(random, alphabet, 4, 10) + "@invalid"
+                    : word(random, "abcdefghijklmnopqrstuvwxyz.", 4, 12) + '@' + word(random, "abcdefghijklmnopqrstuvwxyz", 3, 10) + ".fr";
+        }
+    }
+
+    @Benchmark
+    public void baselineRemoveAccents(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(baselineRemoveAccents(name));
+        }
+    }
+
+    @Benchmark
+    public void removeAccents(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(Tools.removeAccents(name));
+        }
+    }
+
+    @Benchmark
+    public void baselineIsValidEmail(Blackhole blackhole) {
+        for (String email : emails) {
+            blackhole.consume(email != null && !email.isEmpty() && Pattern.matches(EMAIL_REGEX, email));
+        }
+    }
+
+    @Benchmark
+    public void isValidEmail(Blackhole blackhole) {
+        for (String email : emails) {
+            blackhole.consume(Tools.isValidEmail(email));
+        }
+    }
+
+    /**
+     * {@code Tools.removeAccents} avant la table de correspondance.
+     */
+    private static String baselineRemoveAccents(String input) {
+        String normalized = Normalizer.normalize(input, Normalizer.Form.NFD);
+        Pattern pattern = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+        return pattern.matcher(normalized).replaceAll("");
+    }
+
+    private static String word(SplittableRandom random, String alphabet, int min, int max) {
+        StringBuilder word = new StringBuilder();
+        for (int i = random.nextInt(min, max); i > 0; i--) {
+            word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.ovunix.loadtest.domain;
+
+import com.ovunix.core.config.KeyGenerator;
+import com.ovunix.core.domain.Persistable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Entity
+@Table(name = "article", indexes = @Index(name = "idx_article_category", columnList = "category"))
+public class Article implements Persistable<String> {
+
+    @Id
+    @KeyGenerator
+    private String id;
+
+    @Version
+    private Long version;
+
+    private String name;
+    private String category;
+    private BigDecimal price;
+    private int quantity;
+    private LocalDate createdAt;
+}
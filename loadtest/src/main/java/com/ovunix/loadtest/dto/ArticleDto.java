@@ -0,0 +1,19 @@
+package com.ovunix.loadtest.dto;
+
+import com.ovunix.core.dto.AbstractDto;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class ArticleDto implements AbstractDto {
+
+    private String id;
+    private Long version;
+    private String name;
+    private String category;
+    private BigDecimal price;
+    private int quantity;
+    private LocalDate createdAt;
+}
@@ -0,0 +1,27 @@
+package com.ovunix.loadtest.harness;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * @param service    nom du bean service testé
+ * @param threads    nombre de threads virtuels qui envoient les opérations
+ * @param seedRows   lignes insérées avant le test
+ * @param categories nombre de catégories distinctes (sélectivité des filtres et comptages)
+ * @param warmup     durée de chauffe, non mesurée
+ * @param duration   durée mesurée
+ * @param mix        poids relatif de chaque opération
+ * @param output     fichier JSON du rapport
+ */
+@ConfigurationProperties("loadtest")
+public record LoadTestProperties(String service,
+                                 int threads,
+                                 int seedRows,
+                                 int categories,
+                                 Duration warmup,
+                                 Duration duration,
+                                 Map<Operation, Integer> mix,
+                                 String output) {
+}
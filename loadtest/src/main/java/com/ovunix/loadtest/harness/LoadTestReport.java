@@ -0,0 +1,45 @@
+package com.ovunix.loadtest.harness;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Rapport d'une exécution, écrit en JSON pour comparer deux exécutions.
+ */
+public record LoadTestReport(Instant startedAt,
+                             String service,
+                             int threads,
+                             double durationSeconds,
+                             long operations,
+                             double throughputPerSecond,
+                             long allocatedBytes,
+                             double allocatedBytesPerOperation,
+                             long gcCount,
+                             long gcTimeMillis,
+                             Map<Operation, OperationStats> operationStats) {
+
+    /**
+     * Latences en microsecondes.
+     */
+    public record OperationStats(long count,
+                                 long errors,
+                                 double throughputPerSecond,
+                                 double meanMicros,
+                                 double p50Micros,
+                                 double p99Micros,
+                                 double p999Micros,
+                                 double maxBucketMicros) {
+
+        static OperationStats of(LatencyHistogram histogram, double seconds) {
+            return new OperationStats(
+                    histogram.count(),
+                    histogram.errors(),
+                    histogram.count() / seconds,
+                    histogram.meanMicros(),
+                    histogram.percentileMicros(0.50),
+                    histogram.percentileMicros(0.99),
+                    histogram.percentileMicros(0.999),
+                    histogram.percentileMicros(1.0));
+        }
+    }
+}
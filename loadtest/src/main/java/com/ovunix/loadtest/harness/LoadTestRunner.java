@@ -0,0 +1,231 @@
+package com.ovunix.loadtest.harness;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ovunix.core.dto.Criteria;
+import com.ovunix.core.dto.RequestFilter;
+import com.ovunix.loadtest.dto.ArticleDto;
+import com.ovunix.loadtest.service.ArticleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Insère le jeu de données, lance {@code threads} threads virtuels qui tirent les opérations selon le mélange
+ * configuré pendant la chauffe puis la durée mesurée, et produit le rapport (percentiles, débit, allocation).
+ */
+@Component
+public class LoadTestRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private final LoadTestProperties properties;
+    private final Map<String, ArticleService> services;
+
+    /** Identifiants connus : ceux du jeu initial puis ceux créés pendant le test. */
+    private final Map<Integer, String> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger idCount = new AtomicInteger();
+
+    public LoadTestRunner(LoadTestProperties properties, Map<String, ArticleService> services) {
+        this.properties = properties;
+        this.services = services;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        ArticleService service = services.get(properties.service());
+        if (service == null) {
+            throw new IllegalArgumentException("Service inconnu : " + properties.service() + ", disponibles : " + services.keySet());
+        }
+        Operation[] wheel = wheel(properties.mix());
+
+        LOGGER.info("Seeding {} rows", properties.seedRows());
+        for (int i = 0; i < properties.seedRows(); i++) {
+            remember(service.save(newArticle(ThreadLocalRandom.current())).getId());
+        }
+
+        Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new LatencyHistogram());
+        }
+
+        long warmupEnd = System.nanoTime() + properties.warmup().toNanos();
+        long end = warmupEnd + properties.duration().toNanos();
+        LOGGER.info("Running {} virtual threads on {} ({} warmup, {} measured)",
+                properties.threads(), properties.service(), properties.warmup(), properties.duration());
+
+        long allocatedBefore = 0;
+        long[] gcBefore = null;
+        Instant startedAt = Instant.now();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < properties.threads(); t++) {
+                executor.execute(() -> work(service, wheel, histograms, warmupEnd, end));
+            }
+            Thread.sleep(Math.max(0, (warmupEnd - System.nanoTime()) / 1_000_000));
+            allocatedBefore = allocatedBytes();
+            gcBefore = gcTotals();
+        }
+        long allocated = allocatedBytes() - allocatedBefore;
+        long[] gcAfter = gcTotals();
+
+        double seconds = properties.duration().toNanos() / 1e9;
+        Map<Operation, LoadTestReport.OperationStats> stats = new EnumMap<>(Operation.class);
+        long operations = 0;
+        for (Map.Entry<Operation, LatencyHistogram> entry : histograms.entrySet()) {
+            stats.put(entry.getKey(), LoadTestReport.OperationStats.of(entry.getValue(), seconds));
+            operations += entry.getValue().count();
+        }
+        LoadTestReport report = new LoadTestReport(startedAt, properties.service(), properties.threads(), seconds,
+                operations, operations / seconds, allocated, operations == 0 ? 0 : (double) allocated / operations,
+                gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1], stats);
+
+        print(report);
+        write(report);
+    }
+
+    private void work(ArticleService service, Operation[] wheel, Map<Operation, LatencyHistogram> histograms,
+                      long warmupEnd, long end) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+            Operation operation = wheel[random.nextInt(wheel.length)];
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                execute(service, operation, random);
+                ok = true;
+            } catch (RuntimeException e) {
+                ok = false;
+                LOGGER.debug("{} failed", operation, e);
+            }
+            long elapsed = System.nanoTime() - start;
+            if (start >= warmupEnd) {
+                LatencyHistogram histogram = histograms.get(operation);
+                if (ok) {
+                    histogram.record(elapsed);
+                } else {
+                    histogram.recordError();
+                }
+            }
+        }
+    }
+
+    private void execute(ArticleService service, Operation operation, ThreadLocalRandom random) {
+        switch (operation) {
+            case SAVE -> remember(service.save(newArticle(random)).getId());
+            case UPDATE -> service.find(randomId(random)).ifPresent(article -> {
+                article.setQuantity(random.nextInt(1000));
+                article.setPrice(BigDecimal.valueOf(random.nextInt(1, 100_000), 2));
+                service.update(article);
+            });
+            case FIND -> service.find(randomId(random));
+            case FILTER -> service.filter(categoryFilter(random));
+            case COUNT -> service.count(categoryFilter(random));
+        }
+    }
+
+    private RequestFilter categoryFilter(ThreadLocalRandom random) {
+        RequestFilter filter = new RequestFilter();
+        filter.getAndCriterias().add(new Criteria("category", category(random), com.ovunix.core.annotations.Operation.EQUAL));
+        filter.setPage(random.nextInt(3));
+        filter.setSize(20);
+        filter.setSortBy("name");
+        filter.setSortAsc(true);
+        return filter;
+    }
+
+    private ArticleDto newArticle(ThreadLocalRandom random) {
+        ArticleDto article = new ArticleDto();
+        article.setName("Article " + random.nextInt(1_000_000));
+        article.setCategory(category(random));
+        article.setPrice(BigDecimal.valueOf(random.nextInt(1, 100_000), 2));
+        article.setQuantity(random.nextInt(1000));
+        article.setCreatedAt(LocalDate.now().minusDays(random.nextInt(365)));
+        return article;
+    }
+
+    private String category(ThreadLocalRandom random) {
+        return "CAT-" + random.nextInt(properties.categories());
+    }
+
+    private void remember(String id) {
+        ids.put(idCount.getAndIncrement(), id);
+    }
+
+    private String randomId(ThreadLocalRandom random) {
+        String id = ids.get(random.nextInt(Math.max(idCount.get(), 1)));
+        return id != null ? id : ids.get(0);
+    }
+
+    private static Operation[] wheel(Map<Operation, Integer> mix) {
+        List<Operation> wheel = new ArrayList<>();
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                wheel.add(entry.getKey());
+            }
+        }
+        if (wheel.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix ne contient aucune opération");
+        }
+        return wheel.toArray(new Operation[0]);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getTotalThreadAllocatedBytes();
+    }
+
+    private static long[] gcTotals() {
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(gc.getCollectionCount(), 0);
+            time += Math.max(gc.getCollectionTime(), 0);
+        }
+        return new long[]{count, time};
+    }
+
+    private static void print(LoadTestReport report) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n%s, %d threads, %.0f s: %d ops, %.0f ops/s, %.0f B/op, %d GC (%d ms)%n",
+                report.service(), report.threads(), report.durationSeconds(), report.operations(),
+                report.throughputPerSecond(), report.allocatedBytesPerOperation(), report.gcCount(), report.gcTimeMillis()));
+        out.append(String.format("%-8s %10s %8s %10s %10s %10s %10s%n", "op", "count", "errors", "ops/s", "p50 µs", "p99 µs", "p999 µs"));
+        report.operationStats().forEach((operation, stats) -> out.append(String.format("%-8s %10d %8d %10.0f %10.0f %10.0f %10.0f%n",
+                operation, stats.count(), stats.errors(), stats.throughputPerSecond(),
+                stats.p50Micros(), stats.p99Micros(), stats.p999Micros())));
+        LOGGER.info(out.toString());
+    }
+
+    private void write(LoadTestReport report) throws IOException {
+        Path output = Path.of(properties.output());
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(output.toFile(), report);
+        LOGGER.info("Report written to {}", output.toAbsolutePath());
+    }
+}
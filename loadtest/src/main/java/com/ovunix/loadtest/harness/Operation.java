@@ -0,0 +1,9 @@
+package com.ovunix.loadtest.harness;
+
+public enum Operation {
+    SAVE,
+    UPDATE,
+    FIND,
+    FILTER,
+    COUNT;
+}
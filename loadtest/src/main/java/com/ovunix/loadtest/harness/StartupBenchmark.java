@@ -0,0 +1,84 @@
+package com.ovunix.loadtest.harness;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Temps de démarrage de l'application de test (lancement de la JVM jusqu'à son arrêt, contexte Spring et
+ * {@code OvunixRegistry} compris) selon trois modes : jar exécutable, jar extrait, jar extrait avec une archive
+ * CDS (Class Data Sharing). Médiane et minimum de {@code runs} lancements par mode.
+ * <p>
+ * Chaque lancement est une JVM neuve arrêtée dès le contexte rafraîchi ({@code spring.context.exit=onRefresh}) :
+ * le test de charge n'est pas exécuté. L'archive CDS est produite par un lancement d'entraînement
+ * ({@code -XX:ArchiveClassesAtExit}) sur le jar extrait, seule disposition que CDS sait exploiter.
+ * <pre>
+ * mvn -f loadtest/pom.xml package
+ * java -cp loadtest/target/classes com.ovunix.loadtest.harness.StartupBenchmark loadtest/target/ovunix-dev-tools-loadtest-2.0.0.jar 10
+ * </pre>
+ */
+public final class StartupBenchmark {
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage : StartupBenchmark <jar exécutable> [lancements par mode, 5 par défaut]");
+            System.exit(2);
+        }
+        Path jar = Path.of(args[0]).toAbsolutePath();
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        Path work = jar.resolveSibling("startup");
+        Path extracted = work.resolve("app");
+        Path archive = work.resolve("app.jsa");
+
+        Files.createDirectories(work);
+        run(List.of(java(), "-Djarmode=tools", "-jar", jar.toString(), "extract", "--force",
+                "--destination", extracted.toString()));
+        Path extractedJar = extracted.resolve(jar.getFileName());
+        Files.deleteIfExists(archive);
+        run(command("-XX:ArchiveClassesAtExit=" + archive, "-jar", extractedJar.toString()));
+
+        System.out.printf("%-20s %10s %10s%n", "mode", "median ms", "min ms");
+        report("fat jar", runs, command("-jar", jar.toString()));
+        report("jar extrait", runs, command("-jar", extractedJar.toString()));
+        report("jar extrait + CDS", runs, command("-XX:SharedArchiveFile=" + archive, "-jar", extractedJar.toString()));
+    }
+
+    private static void report(String mode, int runs, List<String> command) throws IOException, InterruptedException {
+        long[] millis = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            run(command);
+            millis[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(millis);
+        System.out.printf("%-20s %10d %10d%n", mode, millis[runs / 2], millis[0]);
+    }
+
+    private static List<String> command(String... arguments) {
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        command.add("-Dspring.context.exit=onRefresh");
+        command.addAll(List.of(arguments));
+        return command;
+    }
+
+    private static String run(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Échec de " + String.join(" ", command) + " :\n" + output);
+        }
+        return output;
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+}
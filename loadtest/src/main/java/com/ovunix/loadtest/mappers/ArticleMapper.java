@@ -0,0 +1,10 @@
+package com.ovunix.loadtest.mappers;
+
+import com.ovunix.core.mappers.AbstractMappers;
+import com.ovunix.loadtest.domain.Article;
+import com.ovunix.loadtest.dto.ArticleDto;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ArticleMapper extends AbstractMappers<ArticleDto, Article> {
+}
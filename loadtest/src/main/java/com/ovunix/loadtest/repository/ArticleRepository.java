@@ -0,0 +1,9 @@
+package com.ovunix.loadtest.repository;
+
+import com.ovunix.core.repository.AbstractRepository;
+import com.ovunix.loadtest.domain.Article;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArticleRepository extends AbstractRepository<Article, String> {
+}
@@ -0,0 +1,48 @@
+package com.ovunix.loadtest.service;
+
+import com.ovunix.core.mappers.AbstractMappers;
+import com.ovunix.core.repository.AbstractRepository;
+import com.ovunix.core.service.AbstractServiceImpl;
+import com.ovunix.core.strategy.BusinessStrategy;
+import com.ovunix.core.strategy.IdGeneratorStrategy;
+import com.ovunix.core.validators.Validator;
+import com.ovunix.loadtest.dto.ArticleDto;
+import com.ovunix.loadtest.mappers.ArticleMapper;
+import com.ovunix.loadtest.repository.ArticleRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * Service de référence : configuration par défaut d'{@link AbstractServiceImpl}, sans option activée.
+ */
+@Service
+public class ArticleService extends AbstractServiceImpl<ArticleDto, String> {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleMapper articleMapper;
+
+    public ArticleService(Map<String, Validator<?>> validators,
+                          Map<String, BusinessStrategy<?, ?>> strategies,
+                          IdGeneratorStrategy generatorStrategy,
+                          ArticleRepository articleRepository,
+                          ArticleMapper articleMapper) {
+        super(validators, strategies, generatorStrategy);
+        this.articleRepository = articleRepository;
+        this.articleMapper = articleMapper;
+    }
+
+    @Override
+    public AbstractRepository abstractRepository() {
+        return articleRepository;
+    }
+
+    @Override
+    public AbstractMappers abstractMappers() {
+        return articleMapper;
+    }
+
+    @Override
+    public void setValidator(Validator validator) {
+    }
+}
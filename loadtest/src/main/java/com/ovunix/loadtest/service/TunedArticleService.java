@@ -0,0 +1,45 @@
+package com.ovunix.loadtest.service;
+
+import com.ovunix.core.annotations.CountMode;
+import com.ovunix.core.cache.QueryCache;
+import com.ovunix.core.service.RetryPolicy;
+import com.ovunix.core.strategy.BusinessStrategy;
+import com.ovunix.core.strategy.ConflictMergeStrategy;
+import com.ovunix.core.strategy.IdGeneratorStrategy;
+import com.ovunix.core.validators.Validator;
+import com.ovunix.loadtest.domain.Article;
+import com.ovunix.loadtest.dto.ArticleDto;
+import com.ovunix.loadtest.mappers.ArticleMapper;
+import com.ovunix.loadtest.repository.ArticleRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Même service avec les options de performance activées : comptages en cache, cache de requêtes,
+ * regroupement des lectures identiques et nouvel essai sur conflit de verrou optimiste.
+ */
+@Service
+public class TunedArticleService extends ArticleService {
+
+    public TunedArticleService(Map<String, Validator<?>> validators,
+                               Map<String, BusinessStrategy<?, ?>> strategies,
+                               IdGeneratorStrategy generatorStrategy,
+                               ArticleRepository articleRepository,
+                               ArticleMapper articleMapper) {
+        super(validators, strategies, generatorStrategy, articleRepository, articleMapper);
+        setCountMode(CountMode.CACHED);
+        setQueryCache(new QueryCache(50_000));
+        setSingleFlight(Duration.ofMillis(500));
+        setRetryPolicy(RetryPolicy.of(4, Duration.ofMillis(2), Duration.ofMillis(50)));
+        // Dernière écriture gagnante : on reprend la version courante et on réapplique la modification
+        setConflictMergeStrategy((ConflictMergeStrategy<Article, ArticleDto>) (attempted, latest) -> {
+            if (latest == null) {
+                return null;
+            }
+            attempted.setVersion(latest.getVersion());
+            return attempted;
+        });
+    }
+}
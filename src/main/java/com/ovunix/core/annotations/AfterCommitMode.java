@@ -0,0 +1,9 @@
+package com.ovunix.core.annotations;
+
+public enum AfterCommitMode {
+
+    /** Les traitements d'une même entité (même identifiant) s'exécutent l'un après l'autre, dans l'ordre des commits. */
+    ORDERED_PER_ENTITY,
+    /** Tous les traitements s'exécutent en parallèle, sans ordre garanti. */
+    PARALLEL;
+}
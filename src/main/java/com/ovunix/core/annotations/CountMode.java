@@ -0,0 +1,11 @@
+package com.ovunix.core.annotations;
+
+public enum CountMode {
+
+    /** Chaque appel exécute un {@code SELECT COUNT(*)}. */
+    EXACT,
+    /** Les comptages exacts sont mis en cache par filtre et invalidés à chaque écriture du service. */
+    CACHED,
+    /** Comme {@link #CACHED}, mais le comptage sans filtre lit les statistiques de la base. */
+    ESTIMATED;
+}
@@ -0,0 +1,76 @@
+package com.ovunix.core.cache;
+
+import com.ovunix.core.dto.RequestFilterKey;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache LRU des comptages exacts d'une entité, par filtre normalisé.
+ * <p>
+ * Les entrées sont étiquetées par {@link EntityGeneration} et ne sont servies que pour la génération
+ * courante. Une durée de vie borne en plus l'obsolescence face aux écritures faites hors du service
+ * (autre instance, requête native...). Au-delà de {@code maxEntries}, l'entrée la moins récemment lue
+ * est retirée.
+ */
+public class CountCache {
+
+    private record Entry(long generation, long expiresAt, long total) {
+    }
+
+    private final Map<RequestFilterKey, Entry> entries;
+    private final long ttlNanos;
+
+    public CountCache(int maxEntries, Duration ttl) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries doit être strictement positif");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 64), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RequestFilterKey, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Retourne le comptage en cache pour cette génération, ou {@code null}.
+     */
+    public Long get(RequestFilterKey key, long generation) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.generation() != generation || System.nanoTime() - entry.expiresAt() > 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.total();
+        }
+    }
+
+    /**
+     * Enregistre un comptage obtenu avec la génération lue avant la requête.
+     */
+    public void put(RequestFilterKey key, long generation, long total) {
+        Entry entry = new Entry(generation, System.nanoTime() + ttlNanos, total);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
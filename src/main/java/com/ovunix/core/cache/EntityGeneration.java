@@ -0,0 +1,52 @@
+package com.ovunix.core.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compteur de génération d'une entité, incrémenté à chaque écriture.
+ * <p>
+ * Une valeur mise en cache est étiquetée avec la génération lue <em>avant</em> la requête ; elle n'est
+ * enregistrée que si la génération n'a pas bougé pendant la requête, et servie que si elle n'a pas bougé depuis. L'écriture incrémente le compteur immédiatement
+ * puis à nouveau à la fin de la transaction : une lecture concurrente qui aurait vu l'état d'avant le
+ * commit est donc invalidée dès que le commit est visible.
+ */
+public final class EntityGeneration {
+
+    private static final Map<Class<?>, EntityGeneration> GENERATIONS = new ConcurrentHashMap<>();
+
+    private final AtomicLong value = new AtomicLong();
+
+    private EntityGeneration() {
+    }
+
+    /**
+     * Retourne le compteur partagé d'une classe d'entité.
+     */
+    public static EntityGeneration of(Class<?> entityClass) {
+        return GENERATIONS.computeIfAbsent(entityClass, c -> new EntityGeneration());
+    }
+
+    public long current() {
+        return value.get();
+    }
+
+    /**
+     * Signale une écriture : incrémente maintenant, puis après la fin de la transaction en cours s'il y en a une.
+     */
+    public void invalidate() {
+        value.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    value.incrementAndGet();
+                }
+            });
+        }
+    }
+}
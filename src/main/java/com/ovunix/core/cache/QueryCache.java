@@ -0,0 +1,121 @@
+package com.ovunix.core.cache;
+
+import com.ovunix.core.dto.RequestFilterKey;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache LRU des pages de {@code filter()} d'une entité, par filtre normalisé, borné en poids.
+ * <p>
+ * Le poids d'une page est son nombre de lignes plus un : {@code maxWeight} borne donc le nombre total de DTO
+ * retenus. Comme {@link CountCache}, chaque entrée est étiquetée par la génération lue avant la requête
+ * ({@link EntityGeneration}) et n'est servie que si aucune écriture n'a eu lieu depuis.
+ * <p>
+ * Le cache ne retient que des instantanés : la page est copiée en profondeur (liste et DTO) par la fonction de
+ * copie à l'enregistrement et de nouveau à chaque lecture. Ni l'appelant qui l'a fournie ni ceux qui la lisent
+ * ne peuvent donc modifier ce que les suivants recevront.
+ */
+public class QueryCache {
+
+    private record Entry(long generation, List<?> rows) {
+    }
+
+    private final long maxWeight;
+    private final LinkedHashMap<RequestFilterKey, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public QueryCache(long maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight doit être strictement positif");
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Retourne une copie de la page en cache pour cette génération, ou {@code null}.
+     *
+     * @param copy copie profonde d'une page (celle passée à {@link #put})
+     */
+    public <E> List<E> get(RequestFilterKey key, long generation, UnaryOperator<List<E>> copy) {
+        List<E> rows = null;
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.generation() == generation) {
+                rows = (List<E>) entry.rows();
+            } else if (entry != null) {
+                remove(key);
+            }
+        }
+        if (rows == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copy.apply(rows);
+    }
+
+    /**
+     * Enregistre une page obtenue avec la génération lue avant la requête. Une page plus lourde que
+     * {@code maxWeight} n'est pas retenue.
+     */
+    public <E> void put(RequestFilterKey key, long generation, List<E> rows, UnaryOperator<List<E>> copy) {
+        long entryWeight = weightOf(rows);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        List<E> snapshot = copy.apply(rows);
+        synchronized (entries) {
+            Entry previous = entries.put(key, new Entry(generation, snapshot));
+            if (previous != null) {
+                weight -= weightOf(previous.rows());
+            }
+            weight += entryWeight;
+            Iterator<Map.Entry<RequestFilterKey, Entry>> eldest = entries.entrySet().iterator();
+            while (weight > maxWeight && eldest.hasNext()) {
+                weight -= weightOf(eldest.next().getValue().rows());
+                eldest.remove();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    private void remove(RequestFilterKey key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            weight -= weightOf(removed.rows());
+        }
+    }
+
+    private static long weightOf(List<?> rows) {
+        return rows.size() + 1L;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /** Poids courant (lignes retenues plus une par page). */
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+}
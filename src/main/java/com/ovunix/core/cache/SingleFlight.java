@@ -0,0 +1,146 @@
+package com.ovunix.core.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Regroupe les appels concurrents identiques : le premier exécute le chargement, les suivants attendent
+ * et reçoivent son résultat.
+ * <p>
+ * La clé est associée à la génération de l'entité lue avant l'appel ({@link EntityGeneration}) : un appel fait
+ * après une écriture ne rejoint jamais un chargement commencé avant elle. L'attente d'un appel suiveur est
+ * bornée ; au-delà, il exécute son propre chargement. Si le chargement partagé échoue, chaque suiveur reçoit
+ * la même exception (les {@link RuntimeException} et {@link Error} sont relancées telles quelles).
+ * <p>
+ * Chaque appelant reçoit son propre résultat : les suiveurs une copie, le chargeur l'original s'il n'a eu
+ * aucun suiveur, une copie sinon. Le résultat partagé n'est ainsi jamais modifié par un appelant pendant
+ * qu'un autre le copie.
+ *
+ * @param <K> type de la clé (identifiant, {@code RequestFilterKey}...)
+ * @param <V> type du résultat
+ */
+public class SingleFlight<K, V> {
+
+    private record Key(long generation, Object key) {
+    }
+
+    /**
+     * Chargement en cours. {@code followers} vaut -1 une fois scellé par un chargeur resté seul : un appel qui
+     * le trouve scellé ne peut plus s'y joindre.
+     */
+    private static final class Flight<V> extends CompletableFuture<V> {
+
+        private final AtomicInteger followers = new AtomicInteger();
+
+        boolean enlist() {
+            for (int count = followers.get(); count >= 0; count = followers.get()) {
+                if (followers.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean sealAlone() {
+            return followers.compareAndSet(0, -1);
+        }
+    }
+
+    private final Map<Key, Flight<V>> calls = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(Duration maxWait) {
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait ne peut pas être négatif");
+        }
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Exécute {@code loader}, ou attend le chargement identique déjà en cours.
+     *
+     * @param copy produit la copie indépendante remise à un appelant (copie profonde des DTO, par exemple)
+     */
+    public V execute(K key, long generation, Supplier<V> loader, UnaryOperator<V> copy) {
+        Key flightKey = new Key(generation, key);
+        while (true) {
+            Flight<V> flight = new Flight<>();
+            Flight<V> running = calls.putIfAbsent(flightKey, flight);
+            if (running == null) {
+                return lead(flightKey, flight, loader, copy);
+            }
+            if (running.enlist()) {
+                return follow(running, loader, copy);
+            }
+            // Chargement scellé par son auteur, en train de se retirer : on recommence
+            calls.remove(flightKey, running);
+        }
+    }
+
+    private V lead(Key flightKey, Flight<V> flight, Supplier<V> loader, UnaryOperator<V> copy) {
+        executions.increment();
+        V value;
+        try {
+            value = loader.get();
+            flight.complete(value);
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(flightKey, flight);
+        }
+        return flight.sealAlone() ? value : copy.apply(value);
+    }
+
+    private V follow(Flight<V> running, Supplier<V> loader, UnaryOperator<V> copy) {
+        try {
+            V value = running.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            shared.increment();
+            return copy.apply(value);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            executions.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompu en attendant un chargement partagé", e);
+        }
+    }
+
+    /** Nombre de chargements réellement exécutés. */
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    /** Nombre d'appels servis par le chargement d'un autre appel. */
+    public long getSharedCount() {
+        return shared.sum();
+    }
+
+    /** Nombre d'appels qui ont cessé d'attendre et chargé eux-mêmes. */
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+}
@@ -0,0 +1,38 @@
+package com.ovunix.core.config;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+/**
+ * Index des champs annotés {@link KeyGenerator}, calculé une fois par classe d'entité.
+ * <p>
+ * Le champ retenu est le premier trouvé en remontant la hiérarchie (classe, puis superclasses) ;
+ * il est rendu accessible une fois pour toutes.
+ */
+public final class KeyGeneratorIndex {
+
+    private static final ClassValue<Optional<Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected Optional<Field> computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(KeyGenerator.class)) {
+                        field.setAccessible(true);
+                        return Optional.of(field);
+                    }
+                }
+            }
+            return Optional.empty();
+        }
+    };
+
+    private KeyGeneratorIndex() {
+    }
+
+    /**
+     * @return le champ {@link KeyGenerator} de la classe, ou null si elle n'en a pas
+     */
+    public static Field keyField(Class<?> entityClass) {
+        return FIELDS.get(entityClass).orElse(null);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ovunix.core.config;
+
+import com.ovunix.core.mappers.AbstractMappers;
+import com.ovunix.core.repository.AbstractRepository;
+import com.ovunix.core.service.AbstractServiceImpl;
+import com.ovunix.core.strategy.BusinessStrategy;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Contribue, à la compilation AOT, les indications de réflexion des classes applicatives :
+ * champ {@link KeyGenerator} des entités (lu et écrit par {@code GeneratorServiceImpl}), méthodes des services
+ * et des stratégies (détection des redéfinitions de {@code determineMapping} et {@code afterCommit}).
+ */
+public class OvunixAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Set<Class<?>> entities = new LinkedHashSet<>();
+        Set<Class<?>> introspected = new LinkedHashSet<>();
+        for (Class<?> type : beanTypes(beanFactory, AbstractMappers.class)) {
+            addIfResolved(entities, type, AbstractMappers.class, 1);
+        }
+        for (Class<?> type : beanTypes(beanFactory, AbstractRepository.class)) {
+            addIfResolved(entities, type, AbstractRepository.class, 0);
+        }
+        introspected.addAll(beanTypes(beanFactory, AbstractServiceImpl.class));
+        introspected.addAll(beanTypes(beanFactory, BusinessStrategy.class));
+        if (entities.isEmpty() && introspected.isEmpty()) {
+            return null;
+        }
+
+        return (generationContext, code) -> {
+            ReflectionHints reflection = generationContext.getRuntimeHints().reflection();
+            for (Class<?> entity : entities) {
+                Field keyField = KeyGeneratorIndex.keyField(entity);
+                if (keyField != null) {
+                    reflection.registerType(entity, MemberCategory.DECLARED_FIELDS);
+                    reflection.registerField(keyField);
+                }
+            }
+            for (Class<?> type : introspected) {
+                reflection.registerType(type, MemberCategory.INTROSPECT_DECLARED_METHODS, MemberCategory.INTROSPECT_PUBLIC_METHODS);
+            }
+        };
+    }
+
+    private static Set<Class<?>> beanTypes(ConfigurableListableBeanFactory beanFactory, Class<?> type) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (String name : beanFactory.getBeanNamesForType(type, true, false)) {
+            Class<?> beanType = beanFactory.getType(name, false);
+            if (beanType != null) {
+                types.add(ClassUtils.getUserClass(beanType));
+            }
+        }
+        return types;
+    }
+
+    private static void addIfResolved(Set<Class<?>> entities, Class<?> type, Class<?> genericType, int index) {
+        Class<?> resolved = ResolvableType.forClass(type).as(genericType).getGeneric(index).resolve();
+        if (resolved != null && !resolved.isInterface()) {
+            entities.add(resolved);
+        }
+    }
+}
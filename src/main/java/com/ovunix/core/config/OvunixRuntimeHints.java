@@ -0,0 +1,31 @@
+package com.ovunix.core.config;
+
+import com.ovunix.core.dto.CountDto;
+import com.ovunix.core.dto.Criteria;
+import com.ovunix.core.dto.RequestFilter;
+import com.ovunix.core.dto.RequestFilterKey;
+import com.ovunix.core.exceptions.OvunixException;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Indications pour l'image native : types de la bibliothèque lus par réflexion (sérialisation JSON des filtres
+ * et comptages, annotation {@link KeyGenerator}). Les classes applicatives (entités, services, stratégies) sont
+ * traitées par {@link OvunixAotProcessor}. Déclaré dans {@code META-INF/spring/aot.factories}.
+ */
+public class OvunixRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(KeyGenerator.class);
+        for (Class<?> type : new Class<?>[]{RequestFilter.class, Criteria.class, CountDto.class,
+                RequestFilterKey.class, RequestFilterKey.Term.class, RequestFilterKey.Value.class}) {
+            hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+        hints.reflection().registerType(OvunixException.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
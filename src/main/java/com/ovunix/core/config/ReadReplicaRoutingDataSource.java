@@ -0,0 +1,143 @@
+package com.ovunix.core.config;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link DataSource} qui envoie les transactions en lecture seule vers un réplica et tout le reste vers le primaire.
+ * <p>
+ * Le choix se fait sur {@link TransactionSynchronizationManager#isCurrentTransactionReadOnly()} : les méthodes
+ * de lecture de {@code AbstractServiceImpl} étant {@code @Transactional(readOnly = true)}, elles partent sur le
+ * réplica. La source doit être enveloppée dans un {@link LazyConnectionDataSourceProxy} pour que la connexion
+ * ne soit prise qu'une fois la transaction déclarée : c'est ce que fait {@link #of(DataSource, DataSource, Duration)}.
+ * <p>
+ * Lecture de ses propres écritures : après le commit d'une écriture faite par le service, le thread courant
+ * reste sur le primaire pendant {@code primaryStickiness}, le temps que le réplica rattrape son retard.
+ * <p>
+ * Limite : cet état est porté par le thread. Une lecture faite sur un autre thread ({@code @Async}, exécuteur
+ * maison, {@code CompletableFuture.supplyAsync}...) ne voit pas l'écriture récente et peut lire un réplica en
+ * retard, sauf si la tâche est enveloppée par {@link #propagate(Runnable)} ou {@link #propagate(Supplier)}. Les
+ * traitements post-commit et {@code filterMany}/{@code countMany} de {@code AbstractServiceImpl} le font ; pour
+ * un exécuteur Spring : {@code executor.setTaskDecorator(ReadReplicaRoutingDataSource::propagate)}.
+ * <p>
+ * Exemple de configuration (deux bases H2 en local pour les essais) :
+ * <pre>{@code
+ * @Bean
+ * @Primary
+ * public DataSource dataSource() {
+ *     DataSource primary = DataSourceBuilder.create().url("jdbc:h2:mem:primary").build();
+ *     DataSource replica = DataSourceBuilder.create().url("jdbc:h2:mem:replica").build();
+ *     return ReadReplicaRoutingDataSource.of(primary, replica, Duration.ofSeconds(2));
+ * }
+ * }</pre>
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Long> LAST_WRITE = new ThreadLocal<>();
+
+    private final long stickinessNanos;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration primaryStickiness) {
+        this.stickinessNanos = primaryStickiness.toNanos();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Construit la source routée, enveloppée dans un {@link LazyConnectionDataSourceProxy}.
+     */
+    public static DataSource of(DataSource primary, DataSource replica, Duration primaryStickiness) {
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primary, replica, primaryStickiness);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Signale une écriture sur le thread courant ; l'horodatage est pris au commit s'il y a une transaction.
+     */
+    public static void markWrite() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    LAST_WRITE.set(System.nanoTime());
+                }
+            });
+        } else {
+            LAST_WRITE.set(System.nanoTime());
+        }
+    }
+
+    /**
+     * Enveloppe une tâche pour qu'elle s'exécute, sur le thread qui la lancera, avec l'écriture récente du thread
+     * courant (capturée maintenant). L'état du thread d'exécution est rétabli à la fin de la tâche.
+     */
+    public static Runnable propagate(Runnable task) {
+        Long captured = LAST_WRITE.get();
+        return () -> {
+            Long previous = swap(captured);
+            try {
+                task.run();
+            } finally {
+                swap(previous);
+            }
+        };
+    }
+
+    /**
+     * Comme {@link #propagate(Runnable)}, pour une tâche qui retourne une valeur.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Long captured = LAST_WRITE.get();
+        return () -> {
+            Long previous = swap(captured);
+            try {
+                return task.get();
+            } finally {
+                swap(previous);
+            }
+        };
+    }
+
+    /** Oublie l'écriture récente du thread courant. */
+    static void clearLastWrite() {
+        LAST_WRITE.remove();
+    }
+
+    private static Long swap(Long lastWrite) {
+        Long previous = LAST_WRITE.get();
+        if (lastWrite == null) {
+            LAST_WRITE.remove();
+        } else {
+            LAST_WRITE.set(lastWrite);
+        }
+        return previous;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        Long lastWrite = LAST_WRITE.get();
+        if (lastWrite != null) {
+            if (System.nanoTime() - lastWrite < stickinessNanos) {
+                return Route.PRIMARY;
+            }
+            LAST_WRITE.remove();
+        }
+        return Route.REPLICA;
+    }
+}
@@ -0,0 +1,300 @@
+package com.ovunix.core.contract;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ovunix.core.utils.InjectionScanner;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Filtre servlet qui refuse les requêtes contenant du SQL ou du JavaScript suspect, avant tout contrôleur.
+ * <p>
+ * Sont analysés : les valeurs des paramètres, les en-têtes listés par {@link #setScreenedHeaders(Set)} et, pour un
+ * corps JSON, chaque nom de champ et chaque chaîne de caractères lus au fil du parseur (le corps, limité à
+ * {@code maxBodyBytes}, est ensuite rejoué tel quel au contrôleur). La détection est celle de
+ * {@link InjectionScanner}, en temps linéaire. Réponses : 400 avec la liste JSON des champs suspects (un corps
+ * JSON invalide, qui ne peut être analysé en entier, en fait partie), 413 si le corps dépasse la limite.
+ * <p>
+ * Les valeurs courtes déjà jugées saines sont retenues dans un petit cache à correspondance directe. La durée
+ * d'analyse est publiée dans l'en-tête {@code Server-Timing} et dans l'attribut {@link #SCAN_NANOS_ATTRIBUTE}.
+ * <p>
+ * Non enregistré par défaut :
+ * <pre>{@code
+ * @Bean
+ * public FilterRegistrationBean<InjectionScreeningFilter> injectionScreeningFilter() {
+ *     FilterRegistrationBean<InjectionScreeningFilter> registration = new FilterRegistrationBean<>(new InjectionScreeningFilter());
+ *     registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+ *     return registration;
+ * }
+ * }</pre>
+ */
+public class InjectionScreeningFilter extends OncePerRequestFilter {
+
+    /** Attribut de requête : durée de l'analyse, en nanosecondes ({@code Long}). */
+    public static final String SCAN_NANOS_ATTRIBUTE = InjectionScreeningFilter.class.getName() + ".scanNanos";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int CACHE_SIZE = 1024;
+    private static final int MAX_CACHED_LENGTH = 256;
+
+    private long maxBodyBytes = 1024 * 1024;
+    private Set<String> screenedHeaders = Set.of();
+
+    /**
+     * Valeurs saines récentes, indexées par leur hash. Courses bénignes : une case écrasée n'est qu'un défaut
+     * de cache, et une {@link String} est toujours publiée entière.
+     */
+    private final String[] cleared = new String[CACHE_SIZE];
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        List<String> errors = new ArrayList<>();
+        InjectionScanner.Session session = new InjectionScanner.Session();
+
+        for (Map.Entry<String, String[]> parameter : request.getParameterMap().entrySet()) {
+            for (String value : parameter.getValue()) {
+                if (suspicious(value, session)) {
+                    errors.add("Suspicious content in parameter '" + parameter.getKey() + "'");
+                    break;
+                }
+            }
+        }
+
+        for (String header : screenedHeaders) {
+            Enumeration<String> values = request.getHeaders(header);
+            while (values != null && values.hasMoreElements()) {
+                if (suspicious(values.nextElement(), session)) {
+                    errors.add("Suspicious content in header '" + header + "'");
+                    break;
+                }
+            }
+        }
+
+        HttpServletRequest screened = request;
+        if (isJson(request.getContentType())) {
+            byte[] body = request.getContentLengthLong() > maxBodyBytes ? null : readBody(request.getInputStream());
+            if (body == null) {
+                reject(response, HttpStatus.PAYLOAD_TOO_LARGE, List.of("Request body exceeds " + maxBodyBytes + " bytes"), start, request);
+                return;
+            }
+            screenJson(body, session, errors);
+            screened = new CachedBodyRequest(request, body);
+        }
+
+        if (!errors.isEmpty()) {
+            reject(response, HttpStatus.BAD_REQUEST, errors, start, request);
+            return;
+        }
+        reportTiming(request, response, start);
+        chain.doFilter(screened, response);
+    }
+
+    /**
+     * Analyse chaque nom de champ et chaque chaîne du corps. Un corps JSON invalide ne peut pas être analysé
+     * jusqu'au bout : il est refusé, en plus des erreurs déjà relevées avant l'endroit du défaut.
+     */
+    private void screenJson(byte[] body, InjectionScanner.Session session, List<String> errors) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                if (token != JsonToken.VALUE_STRING && token != JsonToken.FIELD_NAME) {
+                    continue;
+                }
+                int length = parser.getTextLength();
+                boolean suspicious;
+                if (length <= MAX_CACHED_LENGTH) {
+                    suspicious = suspicious(parser.getText(), session);
+                } else {
+                    session.reset();
+                    suspicious = session.feed(parser.getTextCharacters(), parser.getTextOffset(), length).matched();
+                }
+                if (suspicious) {
+                    String pointer = parser.getParsingContext().pathAsPointer().toString();
+                    errors.add(token == JsonToken.FIELD_NAME
+                            ? "Suspicious body field name '" + pointer + "'"
+                            : "Suspicious content in body field '" + pointer + "'");
+                }
+            }
+        } catch (JsonProcessingException e) {
+            JsonLocation location = e.getLocation();
+            errors.add(location == null
+                    ? "Malformed JSON body"
+                    : "Malformed JSON body at line " + location.getLineNr() + ", column " + location.getColumnNr());
+        }
+    }
+
+    private boolean suspicious(String value, InjectionScanner.Session session) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        boolean cacheable = value.length() <= MAX_CACHED_LENGTH;
+        int slot = value.hashCode() & (CACHE_SIZE - 1);
+        if (cacheable && value.equals(cleared[slot])) {
+            return false;
+        }
+        session.reset();
+        if (session.feed(value).matched()) {
+            return true;
+        }
+        if (cacheable) {
+            cleared[slot] = value;
+        }
+        return false;
+    }
+
+    /**
+     * Lit le corps, ou retourne null s'il dépasse {@code maxBodyBytes}.
+     */
+    private byte[] readBody(InputStream input) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        long total = 0;
+        for (int read = input.read(chunk); read != -1; read = input.read(chunk)) {
+            total += read;
+            if (total > maxBodyBytes) {
+                return null;
+            }
+            buffer.write(chunk, 0, read);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith(MediaType.APPLICATION_JSON_VALUE) || type.contains("+json");
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, List<String> errors, long start,
+                        HttpServletRequest request) throws IOException {
+        reportTiming(request, response, start);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OBJECT_MAPPER.writeValue(response.getOutputStream(), errors);
+    }
+
+    private static void reportTiming(HttpServletRequest request, HttpServletResponse response, long start) {
+        long elapsed = System.nanoTime() - start;
+        request.setAttribute(SCAN_NANOS_ATTRIBUTE, elapsed);
+        response.addHeader("Server-Timing", String.format(Locale.ROOT, "injection-scan;dur=%.3f", elapsed / 1_000_000.0));
+    }
+
+    /**
+     * Taille maximale d'un corps JSON analysé ; au-delà la requête est refusée (413). Par défaut 1 Mo.
+     */
+    public void setMaxBodyBytes(long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * En-têtes à analyser. Aucun par défaut : la signature {@code ;.*\b} reconnaît la syntaxe normale de
+     * {@code User-Agent}, {@code Accept} ou {@code Cookie}, qu'il ne faut donc pas lister.
+     */
+    public void setScreenedHeaders(Set<String> screenedHeaders) {
+        this.screenedHeaders = screenedHeaders.stream().map(h -> h.toLowerCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Requête dont le corps, déjà lu pour l'analyse, est rejoué depuis la mémoire.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // Corps déjà en mémoire : tout est disponible immédiatement
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
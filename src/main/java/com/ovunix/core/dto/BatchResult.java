@@ -0,0 +1,41 @@
+package com.ovunix.core.dto;
+
+import com.ovunix.core.exceptions.OvunixException;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Résultat d'un élément d'un appel groupé ({@code filterMany}, {@code countMany}) : la valeur, ou les erreurs
+ * si cet élément a échoué. L'échec d'un élément n'affecte pas les autres.
+ */
+public record BatchResult<V>(V value, List<String> errors) {
+
+    public static <V> BatchResult<V> success(V value) {
+        return new BatchResult<>(value, List.of());
+    }
+
+    public static <V> BatchResult<V> failure(List<String> errors) {
+        return new BatchResult<>(null, List.copyOf(errors));
+    }
+
+    /**
+     * Exécute {@code action} : sa valeur, ou ses erreurs (celles d'une {@link OvunixException}, à défaut le message
+     * de l'exception).
+     */
+    public static <V> BatchResult<V> of(Supplier<V> action) {
+        try {
+            return success(action.get());
+        } catch (OvunixException e) {
+            return failure(e.getErrors() != null && !e.getErrors().isEmpty()
+                    ? e.getErrors()
+                    : List.of(String.valueOf(e.getMessage())));
+        } catch (RuntimeException e) {
+            return failure(List.of(String.valueOf(e.getMessage())));
+        }
+    }
+
+    public boolean isSuccess() {
+        return errors.isEmpty();
+    }
+}
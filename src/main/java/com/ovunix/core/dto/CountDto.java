@@ -3,6 +3,6 @@ package com.ovunix.core.dto;
 import lombok.Data;
 
 
-public record CountDto (int total){
+public record CountDto (long total){
 
 }
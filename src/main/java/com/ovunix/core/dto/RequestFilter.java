@@ -16,4 +16,9 @@ public class RequestFilter {
     private boolean sortAsc;
     private String sortBy;
 
+    // Plan de chargement : associations à charger avec la page (ex. "client", "lignes.produit")
+    private List<String> fetchPaths = new ArrayList<>();
+    // Nom d'un @NamedEntityGraph à appliquer aux lignes de la page
+    private String entityGraph;
+
 }
@@ -0,0 +1,99 @@
+package com.ovunix.core.dto;
+
+import com.ovunix.core.annotations.Operation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Forme canonique d'un {@link RequestFilter}, utilisable comme clé de cache.
+ * <p>
+ * Deux filtres équivalents produisent la même clé : l'ordre des critères AND et OR est ignoré, ainsi que
+ * l'ordre des listes de valeurs des opérations {@link Operation#IN}/{@link Operation#NOT_IN}. La clé est
+ * structurée (records, multiensembles) et non concaténée : deux filtres différents ne peuvent pas la partager,
+ * quelles que soient leurs valeurs. Le type de chaque valeur en fait partie ({@code 1} et {@code "1"} restent
+ * distincts).
+ */
+public record RequestFilterKey(Map<Term, Integer> andCriterias,
+                               Map<Term, Integer> orCriterias,
+                               int page,
+                               int size,
+                               boolean sortAsc,
+                               String sortBy,
+                               List<String> fetchPaths,
+                               String entityGraph) {
+
+    /** Clé du comptage sans filtre. */
+    public static final RequestFilterKey UNFILTERED = new RequestFilterKey(Map.of(), Map.of(), 0, 0, false, null, List.of(), null);
+
+    /**
+     * Critère normalisé. {@code value} est une {@link Value}, ou pour une collection le multiensemble
+     * (élément normalisé vers nombre d'occurrences) de ses éléments.
+     */
+    public record Term(String key, Operation operation, Object value) {
+    }
+
+    /**
+     * Valeur scalaire accompagnée de son type.
+     */
+    public record Value(Class<?> type, Object value) {
+    }
+
+    private static final Value NULL = new Value(Void.class, null);
+
+    /**
+     * Clé complète : critères, pagination, tri et plan de chargement.
+     */
+    public static RequestFilterKey of(RequestFilter filter) {
+        return new RequestFilterKey(
+                canonical(filter.getAndCriterias()),
+                canonical(filter.getOrCriterias()),
+                filter.getPage(),
+                filter.getSize(),
+                filter.isSortAsc(),
+                filter.getSortBy(),
+                filter.getFetchPaths() == null ? List.of() : List.copyOf(filter.getFetchPaths()),
+                filter.getEntityGraph());
+    }
+
+    /**
+     * Clé de comptage : seuls les critères comptent, la pagination, le tri et le plan de chargement sont ignorés.
+     */
+    public static RequestFilterKey forCount(RequestFilter filter) {
+        return new RequestFilterKey(
+                canonical(filter.getAndCriterias()),
+                canonical(filter.getOrCriterias()),
+                0, 0, false, null, List.of(), null);
+    }
+
+    private static Map<Term, Integer> canonical(List<Criteria> criterias) {
+        if (criterias == null || criterias.isEmpty()) {
+            return Map.of();
+        }
+        Map<Term, Integer> terms = new HashMap<>();
+        for (Criteria criteria : criterias) {
+            terms.merge(new Term(criteria.key(), criteria.operation(), canonicalValue(criteria.value())), 1, Integer::sum);
+        }
+        return Map.copyOf(terms);
+    }
+
+    private static Object canonicalValue(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        if (value instanceof Object[] array) {
+            value = Arrays.asList(array);
+        }
+        if (value instanceof Collection<?> values) {
+            Map<Object, Integer> elements = new HashMap<>();
+            for (Object element : values) {
+                elements.merge(canonicalValue(element), 1, Integer::sum);
+            }
+            return Map.copyOf(elements);
+        }
+        return new Value(value.getClass(), value);
+    }
+}
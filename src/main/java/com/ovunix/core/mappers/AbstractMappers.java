@@ -2,6 +2,10 @@ package com.ovunix.core.mappers;
 
 import com.ovunix.core.domain.Persistable;
 import com.ovunix.core.dto.AbstractDto;
+import org.mapstruct.Named;
+
+import java.util.ArrayList;
+import java.util.List;
 
 
 public interface AbstractMappers<DTO extends AbstractDto, ENTITY extends Persistable> {
@@ -10,4 +14,38 @@ public interface AbstractMappers<DTO extends AbstractDto, ENTITY extends Persist
 
     DTO toDto(ENTITY entity);
 
+    /**
+     * Convertit une page d'entités en une seule fois. Point d'extension pour le travail par lot
+     * (résolution de référentiels partagés une fois par page...) : un mapper MapStruct peut la redéclarer
+     * pour en obtenir une implémentation générée, ou la surcharger.
+     */
+    @Named("toDtos")
+    default List<DTO> toDtos(List<ENTITY> entities) {
+        List<DTO> dtos = new ArrayList<>(entities.size());
+        for (ENTITY entity : entities) {
+            dtos.add(toDto(entity));
+        }
+        return dtos;
+    }
+
+    /**
+     * Convertit un lot de DTO en entités. Même point d'extension que {@link #toDtos(List)}.
+     */
+    @Named("toEntities")
+    default List<ENTITY> toEntities(List<DTO> dtos) {
+        List<ENTITY> entities = new ArrayList<>(dtos.size());
+        for (DTO dto : dtos) {
+            entities.add(toEntity(dto));
+        }
+        return entities;
+    }
+
+    /**
+     * Retourne une vue dont chaque DTO n'est calculé qu'à la première lecture.
+     */
+    @Named("toDtoView")
+    default List<DTO> toDtoView(List<ENTITY> entities) {
+        return new LazyMappedList<>(entities, this::toDto);
+    }
+
 }
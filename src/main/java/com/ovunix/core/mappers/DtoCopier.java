@@ -0,0 +1,183 @@
+package com.ovunix.core.mappers;
+
+import com.ovunix.core.dto.AbstractDto;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Copie profonde d'un DTO, champ par champ : tous les champs sont conservés, y compris ceux que le mapper ne
+ * restitue pas (champs propres au DTO, renseignés par un {@code determineMapping} redéfini).
+ * <p>
+ * Sont copiés récursivement les {@link AbstractDto}, les records, les collections, les maps, les tableaux et les
+ * {@link Date} ; les autres valeurs (chaînes, nombres, énumérations, {@code java.time}...) sont partagées telles
+ * quelles. Un graphe cyclique (parent et enfants qui se référencent) est recopié avec la même forme.
+ */
+public final class DtoCopier {
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            ReflectionUtils.doWithFields(type, field -> {
+                ReflectionUtils.makeAccessible(field);
+                fields.add(field);
+            }, field -> !Modifier.isStatic(field.getModifiers()));
+            return fields.toArray(Field[]::new);
+        }
+    };
+
+    private DtoCopier() {
+    }
+
+    /**
+     * @throws IllegalStateException si une classe de DTO rencontrée n'a pas de constructeur sans argument
+     */
+    public static <D> D copy(D dto) {
+        return (D) copy(dto, new IdentityHashMap<>());
+    }
+
+    private static Object copy(Object value, Map<Object, Object> copies) {
+        if (value == null) {
+            return null;
+        }
+        Object done = copies.get(value);
+        if (done != null) {
+            return done;
+        }
+        if (value instanceof Record record) {
+            return copyRecord(record, copies);
+        }
+        if (value instanceof AbstractDto) {
+            return copyFields(value, copies);
+        }
+        if (value instanceof Collection<?> collection) {
+            Collection<Object> target = newCollection(collection);
+            copies.put(value, target);
+            for (Object element : collection) {
+                target.add(copy(element, copies));
+            }
+            return target;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> target = newMap(map);
+            copies.put(value, target);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                target.put(copy(entry.getKey(), copies), copy(entry.getValue(), copies));
+            }
+            return target;
+        }
+        if (value.getClass().isArray()) {
+            return copyArray(value, copies);
+        }
+        if (value instanceof Date date) {
+            return date.clone();
+        }
+        return value;
+    }
+
+    private static Object copyFields(Object source, Map<Object, Object> copies) {
+        Class<?> type = source.getClass();
+        Constructor<?> constructor;
+        try {
+            constructor = ReflectionUtils.accessibleConstructor(type);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Copie impossible de " + type.getName()
+                    + " : constructeur sans argument absent, redéfinir copyDto", e);
+        }
+        Object target = BeanUtils.instantiateClass(constructor);
+        copies.put(source, target);
+        for (Field field : FIELDS.get(type)) {
+            ReflectionUtils.setField(field, target, copy(ReflectionUtils.getField(field, source), copies));
+        }
+        return target;
+    }
+
+    private static Object copyRecord(Record source, Map<Object, Object> copies) {
+        RecordComponent[] components = source.getClass().getRecordComponents();
+        Class<?>[] types = new Class<?>[components.length];
+        Object[] values = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            Method accessor = components[i].getAccessor();
+            ReflectionUtils.makeAccessible(accessor);
+            types[i] = components[i].getType();
+            values[i] = copy(ReflectionUtils.invokeMethod(accessor, source), copies);
+        }
+        try {
+            return BeanUtils.instantiateClass(ReflectionUtils.accessibleConstructor(source.getClass(), types), values);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Constructeur canonique introuvable : " + source.getClass().getName(), e);
+        }
+    }
+
+    private static Object copyArray(Object source, Map<Object, Object> copies) {
+        int length = Array.getLength(source);
+        Class<?> componentType = source.getClass().getComponentType();
+        Object target = Array.newInstance(componentType, length);
+        copies.put(source, target);
+        if (componentType.isPrimitive()) {
+            System.arraycopy(source, 0, target, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                Array.set(target, i, copy(Array.get(source, i), copies));
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Même classe que la source pour une collection du JDK instanciable sans argument (champ déclaré
+     * {@code ArrayList}, {@code HashSet}...), sinon l'équivalent modifiable le plus proche.
+     */
+    private static Collection<Object> newCollection(Collection<?> source) {
+        if (source instanceof SortedSet<?> sorted) {
+            return new TreeSet<>((Comparator<Object>) sorted.comparator());
+        }
+        Collection<Object> same = (Collection<Object>) instantiate(source.getClass());
+        if (same != null) {
+            return same;
+        }
+        return source instanceof Set ? new LinkedHashSet<>() : new ArrayList<>(source.size());
+    }
+
+    private static Map<Object, Object> newMap(Map<?, ?> source) {
+        if (source instanceof SortedMap<?, ?> sorted) {
+            return new TreeMap<>((Comparator<Object>) sorted.comparator());
+        }
+        Map<Object, Object> same = (Map<Object, Object>) instantiate(source.getClass());
+        return same != null ? same : new LinkedHashMap<>();
+    }
+
+    private static Object instantiate(Class<?> type) {
+        // Classes du JDK seulement : une collection d'ORM (PersistentBag...) ne se recopie pas hors session
+        if (!type.getName().startsWith("java.") || !Modifier.isPublic(type.getModifiers())) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = type.getConstructor();
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ovunix.core.mappers;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Vue en lecture seule d'une liste source dont chaque élément n'est converti qu'au premier accès.
+ * <p>
+ * Un appelant qui ne lit qu'une partie de la page ne paie que le mapping des éléments lus ;
+ * chaque élément n'est converti qu'une fois. La vue n'est pas thread-safe.
+ */
+public class LazyMappedList<S, T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<S> source;
+    private final Function<? super S, ? extends T> mapper;
+    private final Object[] mapped;
+
+    public LazyMappedList(List<S> source, Function<? super S, ? extends T> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+        this.mapped = new Object[source.size()];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Object value = mapped[index];
+        if (value == null) {
+            S element = source.get(index);
+            if (element == null) {
+                return null;
+            }
+            value = mapper.apply(element);
+            mapped[index] = value;
+        }
+        return (T) value;
+    }
+
+    @Override
+    public int size() {
+        return mapped.length;
+    }
+}
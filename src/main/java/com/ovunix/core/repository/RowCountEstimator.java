@@ -0,0 +1,75 @@
+package com.ovunix.core.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estime le nombre de lignes d'une table à partir des statistiques du catalogue, sans {@code COUNT(*)}.
+ * <p>
+ * Supporté : PostgreSQL ({@code pg_class.reltuples}, mis à jour par ANALYZE/autovacuum) et
+ * H2 ({@code INFORMATION_SCHEMA.TABLES.ROW_COUNT_ESTIMATE}). Pour toute autre base, ou si la table
+ * n'a jamais été analysée, {@link #estimate(Class)} retourne {@code -1} et l'appelant doit compter.
+ */
+public class RowCountEstimator {
+
+    private static final String POSTGRESQL_QUERY =
+            "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass(:table)";
+
+    private static final String H2_QUERY =
+            "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES "
+                    + "WHERE UPPER(TABLE_NAME) = UPPER(:table) AND UPPER(TABLE_SCHEMA) = UPPER(:schema)";
+
+    private final EntityManager entityManager;
+    private final Map<Class<?>, String> tableNames = new ConcurrentHashMap<>();
+
+    public RowCountEstimator(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @return le nombre estimé de lignes de la table de l'entité, ou {@code -1} si aucune estimation n'est disponible
+     */
+    public long estimate(Class<?> entityClass) {
+        SessionFactoryImplementor sessionFactory =
+                entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        String table = tableNames.computeIfAbsent(entityClass, c -> tableName(sessionFactory, c));
+        if (table.isEmpty()) {
+            return -1;
+        }
+
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        Object result;
+        if (dialect instanceof PostgreSQLDialect) {
+            result = single(entityManager.createNativeQuery(POSTGRESQL_QUERY)
+                    .setParameter("table", table)
+                    .getResultList());
+        } else if (dialect instanceof H2Dialect) {
+            int dot = table.lastIndexOf('.');
+            result = single(entityManager.createNativeQuery(H2_QUERY)
+                    .setParameter("table", table.substring(dot + 1))
+                    .setParameter("schema", dot < 0 ? "PUBLIC" : table.substring(0, dot))
+                    .getResultList());
+        } else {
+            return -1;
+        }
+        return result instanceof Number number ? number.longValue() : -1;
+    }
+
+    private static Object single(List<?> results) {
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    private static String tableName(SessionFactoryImplementor sessionFactory, Class<?> entityClass) {
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+        return persister instanceof AbstractEntityPersister entityPersister ? entityPersister.getTableName() : "";
+    }
+}
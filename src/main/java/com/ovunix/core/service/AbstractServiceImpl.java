@@ -1,40 +1,125 @@
 package com.ovunix.core.service;
 
+import com.ovunix.core.annotations.AfterCommitMode;
+import com.ovunix.core.annotations.CountMode;
+import com.ovunix.core.cache.CountCache;
+import com.ovunix.core.cache.EntityGeneration;
+import com.ovunix.core.cache.QueryCache;
+import com.ovunix.core.cache.SingleFlight;
+import com.ovunix.core.config.ReadReplicaRoutingDataSource;
 import com.ovunix.core.domain.Persistable;
 import com.ovunix.core.dto.*;
 import com.ovunix.core.dto.validation.ValidationRule;
 import com.ovunix.core.annotations.Operation;
 import com.ovunix.core.exceptions.OvunixException;
 import com.ovunix.core.mappers.AbstractMappers;
+import com.ovunix.core.mappers.DtoCopier;
+import com.ovunix.core.mappers.LazyMappedList;
 import com.ovunix.core.repository.AbstractRepository;
+import com.ovunix.core.repository.RowCountEstimator;
 import com.ovunix.core.strategy.BusinessStrategy;
+import com.ovunix.core.strategy.ConflictMergeStrategy;
 import com.ovunix.core.strategy.IdGeneratorStrategy;
 import com.ovunix.core.validators.Validator;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.FetchParent;
 import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+/**
+ * Service générique CRUD. Les écritures s'exécutent dans une transaction en lecture-écriture ; les lectures
+ * ({@code find}, {@code findAll}, {@code filter}, {@code count}) en lecture seule : flush MANUAL, entités chargées
+ * sans copie de contrôle (dirty checking), et routage vers un réplica avec {@link ReadReplicaRoutingDataSource}.
+ * Pour {@code find}, {@code filter} et {@code count}, cette transaction n'est ouverte qu'une fois les caches et le
+ * regroupement consultés.
+ */
 @Transactional(rollbackFor = {OvunixException.class, Exception.class})
 public abstract class AbstractServiceImpl<T extends AbstractDto, ID extends Serializable> implements IAbstractService<T, ID> {
 
     private static final int MAX_TOTAL_ITEM = 0;
+    private static final int MAX_COMBINED_COUNTS = 32;
+    private static final Map<Class<?>, Boolean> ASSOCIATION_FREE = new ConcurrentHashMap<>();
+    static final String MISSING_TRANSACTION_MANAGER = "Aucun PlatformTransactionManager unique : en déclarer un @Primary "
+            + "ou appeler setTransactionManager";
 
     @Autowired
     protected IdGeneratorStrategy generatorStrategy;
 
     protected BusinessStrategy businessStrategy;
 
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    private CountMode countMode = CountMode.EXACT;
+    private CountCache countCache = new CountCache(1024, Duration.ofMinutes(1));
+    private volatile RowCountEstimator rowCountEstimator;
+    private volatile Class<?> entityClass;
+    private volatile Boolean overridesDetermineMapping;
+
+    protected PlatformTransactionManager transactionManager;
+    private volatile TransactionTemplate transactionTemplate;
+
+    @Autowired(required = false)
+    protected OvunixRegistry registry;
+
+    private RetryPolicy retryPolicy = RetryPolicy.NONE;
+    private ConflictMergeStrategy conflictMergeStrategy;
+    private volatile WriteBehindBuffer<Object, T> writeBehind;
+    private volatile AfterCommitExecutor afterCommitExecutor;
+    private volatile Boolean strategyHasAfterCommit;
+    private volatile SingleFlight<ID, Optional<T>> findFlight;
+    private volatile SingleFlight<RequestFilterKey, List<T>> filterFlight;
+    private volatile QueryCache queryCache;
+    private volatile TransactionTemplate readOnlyTemplate;
+    private int batchConcurrency = 4;
+    private volatile ThreadPoolExecutor batchExecutor;
+
 
     public abstract AbstractRepository abstractRepository();
 
@@ -43,6 +128,8 @@ public abstract class AbstractServiceImpl<T extends AbstractDto, ID extends Seri
 
     private final Map<String, Validator<?>> validators;
     private final Map<String, BusinessStrategy<?, ?>> strategies;
+    private final Map<Class<?>, Optional<Validator<?>>> resolvedValidators = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<BusinessStrategy<?, ?>>> resolvedStrategies = new ConcurrentHashMap<>();
 
     public AbstractServiceImpl(
             Map<String, Validator<?>> validators,
@@ -55,14 +142,67 @@ public abstract class AbstractServiceImpl<T extends AbstractDto, ID extends Seri
     }
 
 
+    /**
+     * Validateur du DTO, résolu une fois par classe : d'abord par type via {@link OvunixRegistry}, à défaut par nom
+     * de bean ({@code fooValidator} : validateur au type non résolvable, ou plusieurs pour un même DTO).
+     */
     protected Validator<T> getValidator(Class<T> dtoClass) {
-        String key = dtoClass.getSimpleName().replace("Dto", "").toLowerCase() + "Validator";
-        return (Validator<T>) validators.get(key);
+        Optional<Validator<?>> resolved = resolvedValidators.get(dtoClass);
+        if (resolved != null) {
+            return (Validator<T>) resolved.orElse(null);
+        }
+        Validator<?> validator = registry != null ? registry.validator(dtoClass) : null;
+        if (validator == null) {
+            validator = validators.get(beanName(dtoClass, "Validator"));
+        }
+        remember(resolvedValidators, dtoClass, validator);
+        return (Validator<T>) validator;
     }
 
+    /**
+     * Stratégie du DTO, résolue une fois par classe : d'abord par type via {@link OvunixRegistry}, à défaut par nom
+     * de bean ({@code fooStrategy}).
+     */
     protected BusinessStrategy<?, ?> getStrategy(Class<T> dtoClass) {
-        String key = dtoClass.getSimpleName().replace("Dto", "").toLowerCase() + "Strategy";
-        return strategies.get(key);
+        Optional<BusinessStrategy<?, ?>> resolved = resolvedStrategies.get(dtoClass);
+        if (resolved != null) {
+            return resolved.orElse(null);
+        }
+        BusinessStrategy<?, ?> strategy = registry != null ? registry.strategy(dtoClass) : null;
+        if (strategy == null) {
+            strategy = strategies.get(beanName(dtoClass, "Strategy"));
+        }
+        remember(resolvedStrategies, dtoClass, strategy);
+        return strategy;
+    }
+
+    private static String beanName(Class<?> dtoClass, String suffix) {
+        return dtoClass.getSimpleName().replace("Dto", "").toLowerCase() + suffix;
+    }
+
+    /**
+     * Mémorise une résolution. Avant l'indexation du registre, une absence n'est pas définitive.
+     */
+    private <V> void remember(Map<Class<?>, Optional<V>> resolved, Class<?> dtoClass, V value) {
+        if (value != null || registry == null || registry.isInitialized()) {
+            resolved.put(dtoClass, Optional.ofNullable(value));
+        }
+    }
+
+    /**
+     * true si le service ne peut fonctionner sans validateur : le démarrage échoue alors si aucun n'est résolu
+     * ({@link OvunixRegistry}).
+     */
+    protected boolean requiresValidator() {
+        return false;
+    }
+
+    /**
+     * true si le service ne peut fonctionner sans stratégie métier : le démarrage échoue alors si aucune n'est
+     * résolue, ni fournie par {@link #setBusinessStrategy(BusinessStrategy)} ({@link OvunixRegistry}).
+     */
+    protected boolean requiresStrategy() {
+        return false;
     }
 
 
@@ -93,54 +233,452 @@ public abstract class AbstractServiceImpl<T extends AbstractDto, ID extends Seri
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = {OvunixException.class, Exception.class})
     public T save(T dto) {
-        return persist(dto, true);
+        return write(dto, true);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = {OvunixException.class, Exception.class})
     public T update(T dto) {
-        return persist(dto, false);
+        WriteBehindBuffer<Object, T> buffer = writeBehind;
+        if (buffer != null && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            Serializable id = abstractMappers().toEntity(dto).getId();
+            if (id != null) {
+                return defer(buffer, id, dto);
+            }
+        }
+        return write(dto, false);
+    }
+
+    private T defer(WriteBehindBuffer<Object, T> buffer, Serializable id, T dto) {
+        boolean accepted;
+        try {
+            accepted = buffer.offer(id, dto);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OvunixException("Interrupted while waiting for room in the write-behind buffer", e);
+        }
+        if (!accepted) {
+            throw new OvunixException("Too many pending updates, please try again later.");
+        }
+        return dto;
+    }
+
+    /**
+     * Exécute l'écriture dans sa propre transaction et gère les conflits de verrou optimiste.
+     * <p>
+     * Si une {@link RetryPolicy} et une {@link ConflictMergeStrategy} sont configurées et que l'appelant n'a pas
+     * de transaction en cours, un conflit relance l'écriture dans une nouvelle transaction, après une attente
+     * exponentielle avec gigue, sur le DTO fusionné avec la dernière version de l'entité. Dans une transaction
+     * de l'appelant, ou sans stratégie de fusion, le conflit est remonté immédiatement comme auparavant.
+     */
+    private T write(T dto, boolean isCreation) {
+        boolean retryable = retryPolicy.maxAttempts() > 1
+                && conflictMergeStrategy != null
+                && !TransactionSynchronizationManager.isActualTransactionActive();
+        ContentionStats stats = ContentionStats.of(entityClass());
+
+        T current = dto;
+        for (int attempt = 1; ; attempt++) {
+            T candidate = current;
+            try {
+                return inTransaction(() -> persist(candidate, isCreation));
+            } catch (ObjectOptimisticLockingFailureException | OptimisticLockException e) {
+                stats.conflict();
+                if (!retryable || attempt >= retryPolicy.maxAttempts()) {
+                    stats.failure();
+                    throw conflict(e);
+                }
+            }
+
+            pause(retryPolicy.backoff(attempt));
+            Serializable id = abstractMappers().toEntity(candidate).getId();
+            Persistable latest = id == null ? null
+                    : inTransaction(() -> (Persistable) abstractRepository().findById(id).orElse(null));
+            current = (T) conflictMergeStrategy.merge(dto, latest);
+            if (current == null) {
+                stats.failure();
+                throw conflict(null);
+            }
+            stats.retry();
+        }
     }
 
+    /**
+     * Exécute dans une transaction : celle de l'appelant s'il en a une, sinon une nouvelle. Sans gestionnaire de
+     * transactions, l'écriture est refusée plutôt qu'exécutée hors transaction.
+     */
+    private <R> R inTransaction(Supplier<R> action) {
+        if (transactionManager == null) {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw new IllegalStateException(MISSING_TRANSACTION_MANAGER + " (" + getClass().getName() + ")");
+            }
+            return action.get();
+        }
+        TransactionTemplate template = transactionTemplate;
+        if (template == null) {
+            template = new TransactionTemplate(transactionManager);
+            transactionTemplate = template;
+        }
+        return template.execute(status -> action.get());
+    }
+
+    private static OvunixException conflict(Exception cause) {
+        return new OvunixException("This resource has been modified by another user. Please reload and try again.", cause);
+    }
+
+    private static void pause(Duration duration) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OvunixException("Interrupted while waiting to retry after a conflict", e);
+        }
+    }
+
+    /**
+     * Enregistre le DTO dans la transaction courante.
+     * <p>
+     * En création, lorsque l'identifiant est attribué ici (par {@link IdGeneratorStrategy} ou par la base),
+     * l'entité est forcément nouvelle : elle est insérée par {@link EntityManager#persist(Object)}.
+     * Passer par {@code save()} ferait voir à Spring Data un identifiant non null, donc un {@code merge}
+     * précédé d'un SELECT. Ce raccourci est réservé aux entités sans association : {@code persist} ne suit
+     * que les cascades {@code PERSIST} et refuse une association vers une instance détachée, là où
+     * {@code merge} la rattache. Une création avec un identifiant fourni par l'appelant, une entité avec
+     * associations, ainsi que toute mise à jour, conservent la sémantique {@code merge}.
+     */
     private T persist(T dto, boolean isCreation) {
         Persistable entity = abstractMappers().toEntity(dto);
+        boolean assignedHere = entity.getId() == null;
         generatorStrategy.generate(entity);
 
         if (businessStrategy != null) {
             businessStrategy.treat(entity, dto);
         }
 
-        try {
+        if (isCreation && assignedHere && isAssociationFree(entity.getClass())) {
+            entityManager.persist(entity);
+        } else {
             abstractRepository().save(entity);
-        } catch (ObjectOptimisticLockingFailureException | OptimisticLockException e) {
-            throw new OvunixException("This resource has been modified by another user. Please reload and try again.");
         }
+        afterWrite();
+        scheduleAfterCommit(entity, dto);
 
         return (T) abstractMappers().toDto(entity);
     }
 
+    /**
+     * true si l'entité n'a aucune association, y compris dans ses composants {@code @Embedded} ; résolu une fois
+     * par classe depuis le métamodèle JPA.
+     */
+    private boolean isAssociationFree(Class<?> type) {
+        return ASSOCIATION_FREE.computeIfAbsent(type, t -> !hasAssociation(entityManager.getMetamodel().managedType(t)));
+    }
+
+    private static boolean hasAssociation(ManagedType<?> type) {
+        for (Attribute<?, ?> attribute : type.getAttributes()) {
+            if (attribute.isAssociation()) {
+                return true;
+            }
+            Type<?> target = attribute instanceof PluralAttribute<?, ?, ?> plural
+                    ? plural.getElementType()
+                    : ((SingularAttribute<?, ?>) attribute).getType();
+            if (target instanceof ManagedType<?> component && hasAssociation(component)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Active le mode write-behind pour {@link #update(AbstractDto)} : hors transaction de l'appelant, une mise à jour
+     * d'une entité existante est mise en tampon (une case par identifiant, la plus récente l'emporte) puis écrite par
+     * lots dans une transaction. {@link #find(Serializable)} voit les valeurs en attente ; {@link #deleteById(Serializable)}
+     * les abandonne sans attendre le vidage en cours, qui n'écrit pas une ligne supprimée. Tampon plein : l'appel attend une place puis échoue avec une {@link OvunixException}.
+     * <p>
+     * Réservé aux mises à jour à haute fréquence dont la perte en cas d'arrêt brutal est acceptable :
+     * le tampon n'est vidé qu'à l'arrêt propre du contexte.
+     */
+    public void enableWriteBehind(WriteBehindConfig config) {
+        WriteBehindBuffer<Object, T> previous = writeBehind;
+        writeBehind = new WriteBehindBuffer<>("write-behind-" + getClass().getSimpleName(), config, this::writeBatch);
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Tampon write-behind actif (compteurs, vidage forcé), ou null.
+     */
+    public WriteBehindBuffer<Object, T> getWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * Écrit un lot du tampon. Chaque ligne est relue sous verrou : une suppression concurrente passe soit après
+     * cette écriture, soit avant, et la mise à jour est alors abandonnée au lieu de recréer la ligne.
+     */
+    private void writeBatch(List<T> batch) {
+        inTransaction(() -> {
+            for (T dto : batch) {
+                Serializable id = abstractMappers().toEntity(dto).getId();
+                if (entityManager.find(entityClass(), id, LockModeType.PESSIMISTIC_WRITE) != null) {
+                    persist(dto, false);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Arrêt du service : vide le tampon write-behind, attend les traitements post-commit en cours puis libère
+     * les threads des appels groupés.
+     */
+    @PreDestroy
+    public void shutdown() {
+        WriteBehindBuffer<Object, T> buffer = writeBehind;
+        if (buffer != null) {
+            buffer.close();
+        }
+        AfterCommitExecutor executor = afterCommitExecutor;
+        if (executor != null) {
+            executor.close();
+        }
+        synchronized (this) {
+            ThreadPoolExecutor batch = batchExecutor;
+            if (batch != null) {
+                batch.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Planifie {@link BusinessStrategy#afterCommit} pour après le commit de la transaction courante
+     * (immédiatement s'il n'y en a pas). Rien n'est planifié si la stratégie ne redéfinit pas cette méthode.
+     */
+    private void scheduleAfterCommit(Persistable entity, T dto) {
+        BusinessStrategy strategy = businessStrategy;
+        if (strategy == null || !hasAfterCommit(strategy)) {
+            return;
+        }
+        Runnable task = () -> strategy.afterCommit(entity, dto);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    afterCommitExecutor().submit(entity.getId(), task);
+                }
+            });
+        } else {
+            afterCommitExecutor().submit(entity.getId(), task);
+        }
+    }
+
+    private boolean hasAfterCommit(BusinessStrategy<?, ?> strategy) {
+        Boolean overrides = strategyHasAfterCommit;
+        if (overrides == null) {
+            Method method = ReflectionUtils.findMethod(strategy.getClass(), "afterCommit", Persistable.class, AbstractDto.class);
+            overrides = method != null && method.getDeclaringClass() != BusinessStrategy.class;
+            strategyHasAfterCommit = overrides;
+        }
+        return overrides;
+    }
+
+    private AfterCommitExecutor afterCommitExecutor() {
+        AfterCommitExecutor executor = afterCommitExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = afterCommitExecutor;
+                if (executor == null) {
+                    executor = new AfterCommitExecutor(AfterCommitMode.ORDERED_PER_ENTITY, 64);
+                    afterCommitExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Gestionnaire de transactions des écritures, des nouveaux essais et des lots, s'il est unique (ou
+     * {@code @Primary}) dans le contexte. Avec plusieurs gestionnaires (plusieurs bases), aucun n'est choisi :
+     * appeler {@link #setTransactionManager} avec le bon, sans quoi {@link OvunixRegistry} refuse le démarrage et
+     * toute écriture hors transaction de l'appelant échoue.
+     */
+    @Autowired
+    public void setTransactionManagers(ObjectProvider<PlatformTransactionManager> transactionManagers) {
+        if (transactionManager == null) {
+            setTransactionManager(transactionManagers.getIfUnique());
+        }
+    }
+
+    /**
+     * Gestionnaire de transactions utilisé par {@link #update(AbstractDto)} et les lots.
+     */
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+        this.transactionTemplate = null;
+        this.readOnlyTemplate = null;
+    }
+
+    /**
+     * Remplace l'exécuteur des traitements post-commit (mode, concurrence). Par défaut :
+     * {@link AfterCommitMode#ORDERED_PER_ENTITY}, 64 traitements simultanés.
+     */
+    public void setAfterCommitExecutor(AfterCommitExecutor afterCommitExecutor) {
+        this.afterCommitExecutor = afterCommitExecutor;
+    }
+
+    /**
+     * Active les nouveaux essais sur conflit de verrou optimiste (voir {@link #update(AbstractDto)}).
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Stratégie qui réapplique le DTO sur la dernière version de l'entité avant un nouvel essai.
+     */
+    public void setConflictMergeStrategy(ConflictMergeStrategy<?, ?> conflictMergeStrategy) {
+        this.conflictMergeStrategy = conflictMergeStrategy;
+    }
+
+    /**
+     * Lecture par identifiant. Le tampon write-behind et le regroupement sont consultés hors transaction :
+     * seule la requête effective ouvre sa transaction en lecture seule (et prend une connexion).
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true, rollbackFor = {OvunixException.class, Exception.class})
     public Optional<T> find(ID id) {
-        return abstractRepository().findById(id).map(entity -> (T) abstractMappers().toDto((Persistable) entity));
+        WriteBehindBuffer<Object, T> buffer = writeBehind;
+        T pending = buffer == null ? null : buffer.pendingValue(id);
+        if (pending != null) {
+            return Optional.of(copyDto(pending));
+        }
+        SingleFlight<ID, Optional<T>> flight = findFlight;
+        if (flight != null && coalescable()) {
+            return flight.execute(id, generation().current(), () -> load(id), found -> found.map(this::copyDto));
+        }
+        return load(id);
+    }
+
+    private Optional<T> load(ID id) {
+        return inReadOnlyTransaction(() -> abstractRepository().findById(id)
+                .map(entity -> (T) abstractMappers().toDto((Persistable) entity)));
     }
 
     @Override
+    @Transactional(readOnly = true, rollbackFor = {OvunixException.class, Exception.class})
     public List<T> findAll() {
         List<Persistable> entities = abstractRepository().findAll();
-        List<T> results = new ArrayList<>();
-        for (Persistable entity : entities) {
-            results.add((T) abstractMappers().toDto(entity));
-        }
-        return results;
+        return abstractMappers().toDtos(entities);
     }
 
     @Override
     public void deleteById(ID id) {
+        WriteBehindBuffer<Object, T> buffer = writeBehind;
+        if (buffer != null) {
+            buffer.discard(id);
+        }
         abstractRepository().deleteById(id);
+        afterWrite();
     }
 
+    /**
+     * Comme {@link #find(Serializable)}, le cache et le regroupement sont consultés hors transaction : un appel
+     * servi par le cache, ou qui attend le chargement d'un autre, ne tient aucune connexion.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true, rollbackFor = {OvunixException.class, Exception.class})
     public List<T> filter(RequestFilter filter) {
+        QueryCache cache = queryCache;
+        SingleFlight<RequestFilterKey, List<T>> flight = filterFlight;
+        if ((cache == null && flight == null) || !coalescable()) {
+            return loadPage(filter);
+        }
+        RequestFilterKey key = RequestFilterKey.of(filter);
+        long generation = generation().current();
+        if (cache != null) {
+            List<T> cached = cache.get(key, generation, this::copyDtos);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        List<T> rows = flight == null
+                ? loadPage(filter)
+                : flight.execute(key, generation, () -> loadPage(filter), this::copyDtos);
+        if (cache != null && unchangedSince(generation)) {
+            cache.put(key, generation, rows, this::copyDtos);
+        }
+        return rows;
+    }
+
+    private List<T> loadPage(RequestFilter filter) {
+        return inReadOnlyTransaction(() -> determineMappings(findPage(filter).getContent()));
+    }
+
+    /**
+     * Active le cache des résultats de {@link #filter(RequestFilter)} : pages déjà converties, par filtre
+     * normalisé, invalidées par toute écriture du service. Comme pour le regroupement, il n'est ni lu ni
+     * alimenté depuis une transaction en lecture-écriture. {@code null} le désactive.
+     */
+    public void setQueryCache(QueryCache queryCache) {
+        this.queryCache = queryCache;
+    }
+
+    /**
+     * Regroupe les appels concurrents identiques de {@link #find(Serializable)} et {@link #filter(RequestFilter)} :
+     * un seul exécute la requête et le mapping, les autres en reçoivent chacun une copie ({@link #copyDto}).
+     * Un appel ne rejoint jamais un chargement commencé avant la dernière écriture du service, ni n'en partage un
+     * depuis une transaction en lecture-écriture. Un appel qui attend plus de {@code maxWait} exécute sa propre
+     * requête. {@code null} désactive le regroupement.
+     */
+    public void setSingleFlight(Duration maxWait) {
+        findFlight = maxWait == null ? null : new SingleFlight<>(maxWait);
+        filterFlight = maxWait == null ? null : new SingleFlight<>(maxWait);
+    }
+
+    /**
+     * Copie indépendante d'un DTO, remise à un appelant qui ne doit pas partager l'instance d'un autre
+     * (regroupement, cache, écriture différée). Par défaut, copie profonde champ par champ ({@link DtoCopier}) :
+     * les champs propres au DTO, renseignés par {@link #determineMapping(Persistable)}, sont conservés. À
+     * redéfinir pour un DTO sans constructeur sans argument.
+     */
+    protected T copyDto(T dto) {
+        return DtoCopier.copy(dto);
+    }
+
+    /**
+     * Copie une page de DTO, élément par élément avec {@link #copyDto(AbstractDto)}.
+     */
+    protected List<T> copyDtos(List<T> dtos) {
+        List<T> copies = new ArrayList<>(dtos.size());
+        for (T dto : dtos) {
+            copies.add(dto == null ? null : copyDto(dto));
+        }
+        return copies;
+    }
+
+    private static boolean coalescable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * Variante de {@link #filter(RequestFilter)} qui ne convertit chaque ligne qu'à sa première lecture.
+     * Les associations lues par le mapper doivent être chargées (ou la session encore ouverte).
+     */
+    @Override
+    @Transactional(readOnly = true, rollbackFor = {OvunixException.class, Exception.class})
+    public List<T> filterView(RequestFilter filter) {
+        List<Persistable> content = findPage(filter).getContent();
+        if (overridesDetermineMapping()) {
+            return new LazyMappedList<>(content, p -> (T) determineMapping(p));
+        }
+        return abstractMappers().toDtoView(content);
+    }
+
+    private Page<Persistable> findPage(RequestFilter filter) {
         Specification<Persistable> specification = buildSpecification(filter);
 
         Pageable pageable = PageRequest.of(
@@ -152,10 +690,141 @@ public abstract class AbstractServiceImpl<T extends AbstractDto, ID extends Seri
         );
 
         Page<Persistable> page = abstractRepository().findAll(specification, pageable);
+        loadFetchPlan(page.getContent(), filter);
+        return page;
+    }
+
+    /**
+     * Seconde phase du plan de chargement, pour ce qui ne peut pas être joint à la requête paginée :
+     * une requête par chemin contenant une collection (un FETCH de collection ferait paginer en mémoire)
+     * et une requête pour le graphe d'entités nommé. Ces requêtes ciblent les identifiants de la page et
+     * initialisent les instances déjà présentes dans le contexte de persistance : la page reste exacte
+     * et le mapping ne déclenche plus de chargement ligne par ligne.
+     */
+    protected void loadFetchPlan(List<Persistable> entities, RequestFilter filter) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        EntityType<?> entityType = entityManager.getMetamodel().entity(entityClass());
+        List<String> pluralPaths = new ArrayList<>();
+        if (filter.getFetchPaths() != null) {
+            for (String path : filter.getFetchPaths()) {
+                if (!isSingularPath(entityType, path)) {
+                    pluralPaths.add(path);
+                }
+            }
+        }
+        String graph = filter.getEntityGraph();
+        if (pluralPaths.isEmpty() && (graph == null || graph.isBlank())) {
+            return;
+        }
+
+        if (graph != null && !graph.isBlank()) {
+            entityManager.createQuery(idQuery(entityType, entities, null))
+                    .setHint("jakarta.persistence.loadgraph", entityManager.getEntityGraph(graph))
+                    .getResultList();
+        }
+        for (String path : pluralPaths) {
+            entityManager.createQuery(idQuery(entityType, entities, path)).getResultList();
+        }
+    }
+
+    private CriteriaQuery<?> idQuery(EntityType<?> entityType, List<Persistable> entities, String fetchPath) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = criteriaBuilder.createQuery();
+        Root<?> root = query.from(entityClass());
+        if (fetchPath != null) {
+            FetchParent<?, ?> parent = root;
+            for (String part : fetchPath.split("\\.")) {
+                parent = parent.fetch(part, JoinType.LEFT);
+            }
+            query.distinct(true);
+        }
+        return query.select(root).where(idIn(criteriaBuilder, entityType, root, entities));
+    }
 
-        return page.getContent().stream()
-                .map(p -> (T) determineMapping(p))
-                .toList();
+    /**
+     * Restreint la requête aux entités de la page. Avec un identifiant composite déclaré par {@code @IdClass},
+     * il n'y a pas d'attribut d'identifiant unique : une égalité par attribut d'identifiant et par entité.
+     */
+    private static Predicate idIn(CriteriaBuilder criteriaBuilder, EntityType<?> entityType, Root<?> root,
+                                  List<Persistable> entities) {
+        if (entityType.hasSingleIdAttribute()) {
+            List<Object> ids = new ArrayList<>(entities.size());
+            for (Persistable entity : entities) {
+                ids.add(entity.getId());
+            }
+            return root.get(entityType.getId(entityType.getIdType().getJavaType()).getName()).in(ids);
+        }
+        Set<? extends SingularAttribute<?, ?>> idAttributes = entityType.getIdClassAttributes();
+        Predicate[] rows = new Predicate[entities.size()];
+        for (int i = 0; i < rows.length; i++) {
+            List<Predicate> row = new ArrayList<>(idAttributes.size());
+            for (SingularAttribute<?, ?> attribute : idAttributes) {
+                row.add(criteriaBuilder.equal(root.get(attribute.getName()), attributeValue(entities.get(i), attribute)));
+            }
+            rows[i] = criteriaBuilder.and(row.toArray(new Predicate[0]));
+        }
+        return criteriaBuilder.or(rows);
+    }
+
+    private static Object attributeValue(Object entity, Attribute<?, ?> attribute) {
+        if (attribute.getJavaMember() instanceof java.lang.reflect.Field field) {
+            ReflectionUtils.makeAccessible(field);
+            return ReflectionUtils.getField(field, entity);
+        }
+        Method getter = (Method) attribute.getJavaMember();
+        ReflectionUtils.makeAccessible(getter);
+        return ReflectionUtils.invokeMethod(getter, entity);
+    }
+
+    /**
+     * Jointures FETCH des chemins simples. Chaque FETCH est enregistré par chemin dans {@code joins} pour que
+     * les critères portant sur la même association le réutilisent au lieu d'ajouter une seconde jointure.
+     */
+    private void applySingularFetches(Root<Persistable> root, List<String> fetchPaths, Map<String, From<?, ?>> joins) {
+        if (fetchPaths == null || fetchPaths.isEmpty()) {
+            return;
+        }
+        Map<String, FetchParent<?, ?>> fetched = new HashMap<>();
+        for (String path : fetchPaths) {
+            if (!isSingularPath(root.getModel(), path)) {
+                continue;
+            }
+            FetchParent<?, ?> parent = root;
+            String prefix = "";
+            for (String part : path.split("\\.")) {
+                prefix = prefix.isEmpty() ? part : prefix + "." + part;
+                FetchParent<?, ?> existing = fetched.get(prefix);
+                if (existing == null) {
+                    existing = parent.fetch(part, JoinType.LEFT);
+                    fetched.put(prefix, existing);
+                    if (existing instanceof From<?, ?> join) {
+                        joins.put(prefix, join);
+                    }
+                }
+                parent = existing;
+            }
+        }
+    }
+
+    /**
+     * Vrai si chaque segment du chemin est une association simple (to-one) ou un embeddable.
+     */
+    private static boolean isSingularPath(ManagedType<?> type, String path) {
+        ManagedType<?> current = type;
+        for (String part : path.split("\\.")) {
+            if (current == null) {
+                return false;
+            }
+            Attribute<?, ?> attribute = current.getAttribute(part);
+            if (attribute.isCollection()) {
+                return false;
+            }
+            Type<?> target = ((SingularAttribute<?, ?>) attribute).getType();
+            current = target instanceof ManagedType<?> managed ? managed : null;
+        }
+        return true;
     }
 
     /**
@@ -178,6 +847,13 @@ public abstract class AbstractServiceImpl<T extends AbstractDto, ID extends Seri
      */
     protected Specification<Persistable> buildSpecification(RequestFilter filter) {
         return (root, query, criteriaBuilder) -> {
+            // Plan de chargement : jointures FETCH pour les associations simples, uniquement sur la requête
+            // qui sélectionne les entités (pas sur le COUNT de pagination ni sur les agrégats)
+            Map<String, From<?, ?>> joins = new HashMap<>();
+            if (query != null && query.getResultType() == root.getJavaType()) {
+                applySingularFetches(root, filter.getFetchPaths(), joins);
+            }
+
             List<Predicate> andPredicates = new ArrayList<>();
             List<Predicate> orPredicates = new ArrayList<>();
 
@@ -204,13 +880,13 @@ public abstract class AbstractServiceImpl<T extends AbstractDto, ID extends Seri
 
             // Traitement des AND
             for (Criteria criteria : filter.getAndCriterias()) {
-                Path<?> path = resolvePath(root, criteria.key());
+                Path<?> path = resolvePath(root, criteria.key(), joins);
                 andPredicates.add(toPredicate.apply(criteria, path));
             }
 
             // Traitement des OR
             for (Criteria criteria : filter.getOrCriterias()) {
-                Path<?> path = resolvePath(root, criteria.key());
+                Path<?> path = resolvePath(root, criteria.key(), joins);
                 orPredicates.add(toPredicate.apply(criteria, path));
             }
 
@@ -222,24 +898,285 @@ public abstract class AbstractServiceImpl<T extends AbstractDto, ID extends Seri
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true, rollbackFor = {OvunixException.class, Exception.class})
     public CountDto count(RequestFilter filter) {
-        Specification<Persistable> specification = buildSpecification(filter);
-        long total = abstractRepository().count(specification);
-        return new CountDto((int) total);
+        RequestFilterKey key = countKey(filter);
+        long generation = generation().current();
+        Long cached = key == null ? null : countCache.get(key, generation);
+        if (cached != null) {
+            return new CountDto(cached);
+        }
+        long total = inReadOnlyTransaction(() -> abstractRepository().count(buildSpecification(filter)));
+        if (key != null && unchangedSince(generation)) {
+            countCache.put(key, generation, total);
+        }
+        return new CountDto(total);
+    }
+
+    /**
+     * Clé du comptage dans {@link #countCache}, ou null en mode {@link CountMode#EXACT} (pas de cache).
+     */
+    private RequestFilterKey countKey(RequestFilter filter) {
+        return countMode == CountMode.EXACT ? null : RequestFilterKey.forCount(filter);
+    }
+
+    /**
+     * Chaque filtre s'exécute dans sa propre transaction en lecture seule, sur les threads du service (virtuels
+     * sous Java 21) ; au plus {@link #setBatchConcurrency(int)} à la fois, tous appels confondus, pour ne pas
+     * épuiser le pool de connexions.
+     * Les tâches reprennent l'écriture récente de l'appelant ({@link ReadReplicaRoutingDataSource#propagate}).
+     * Appelé dans une transaction, les filtres s'exécutent au contraire l'un après l'autre dans celle-ci, sur le
+     * thread appelant, pour en voir les écritures non validées.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = {OvunixException.class, Exception.class})
+    public List<BatchResult<List<T>>> filterMany(List<RequestFilter> filters) {
+        return runConcurrently(filters, this::filter);
+    }
+
+    /**
+     * Les filtres sans jointure (aucune clé de critère composée) sont comptés ensemble, par une seule requête
+     * d'agrégats conditionnels ({@code SUM(CASE WHEN ... THEN 1 ELSE 0 END)} par filtre). Les autres, ou tous
+     * si cette requête échoue, passent par {@link #count(RequestFilter)} comme dans {@link #filterMany(List)}.
+     * Dans une transaction de l'appelant, la requête commune n'est pas tentée : son échec marquerait cette
+     * transaction « rollback-only », et chaque filtre est compté séparément.
+     * Hors mode {@link CountMode#EXACT}, chaque filtre consulte et alimente le cache de comptage comme
+     * {@link #count(RequestFilter)} : seuls les absents du cache sont comptés.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = {OvunixException.class, Exception.class})
+    public List<BatchResult<CountDto>> countMany(List<RequestFilter> filters) {
+        List<BatchResult<CountDto>> results = new ArrayList<>(Collections.nCopies(filters.size(), null));
+        List<Integer> combined = new ArrayList<>();
+        List<Integer> separate = new ArrayList<>();
+        boolean combine = !TransactionSynchronizationManager.isActualTransactionActive();
+        RequestFilterKey[] keys = new RequestFilterKey[filters.size()];
+        long generation = generation().current();
+        for (int i = 0; i < filters.size(); i++) {
+            RequestFilter filter = filters.get(i);
+            keys[i] = countKey(filter);
+            Long cached = keys[i] == null ? null : countCache.get(keys[i], generation);
+            if (cached != null) {
+                results.set(i, BatchResult.success(new CountDto(cached)));
+            } else {
+                (combine && isJoinFree(filter) ? combined : separate).add(i);
+            }
+        }
+
+        for (int from = 0; from < combined.size(); from += MAX_COMBINED_COUNTS) {
+            List<Integer> chunk = combined.subList(from, Math.min(from + MAX_COMBINED_COUNTS, combined.size()));
+            List<RequestFilter> chunkFilters = new ArrayList<>(chunk.size());
+            for (int index : chunk) {
+                chunkFilters.add(filters.get(index));
+            }
+            try {
+                long[] totals = inReadOnlyTransaction(() -> countCombined(chunkFilters));
+                boolean cacheable = unchangedSince(generation);
+                for (int i = 0; i < chunk.size(); i++) {
+                    int index = chunk.get(i);
+                    if (keys[index] != null && cacheable) {
+                        countCache.put(keys[index], generation, totals[i]);
+                    }
+                    results.set(index, BatchResult.success(new CountDto(totals[i])));
+                }
+            } catch (RuntimeException e) {
+                // Un filtre invalide fait échouer la requête commune : chacun est alors compté séparément
+                separate.addAll(chunk);
+            }
+        }
+
+        List<RequestFilter> remaining = new ArrayList<>(separate.size());
+        for (int index : separate) {
+            remaining.add(filters.get(index));
+        }
+        List<BatchResult<CountDto>> separateResults = runConcurrently(remaining, this::count);
+        for (int i = 0; i < separate.size(); i++) {
+            results.set(separate.get(i), separateResults.get(i));
+        }
+        return results;
+    }
+
+    private long[] countCombined(List<RequestFilter> filters) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = criteriaBuilder.createQuery(Object[].class);
+        Root<Persistable> root = query.from((Class<Persistable>) entityClass());
+        List<Expression<?>> sums = new ArrayList<>(filters.size());
+        for (RequestFilter filter : filters) {
+            Predicate predicate = buildSpecification(filter).toPredicate(root, query, criteriaBuilder);
+            sums.add(criteriaBuilder.sum(criteriaBuilder.<Long>selectCase().when(predicate, 1L).otherwise(0L)));
+        }
+        query.multiselect(sums.toArray(new Expression<?>[0]));
+
+        Object result = entityManager.createQuery(query).getSingleResult();
+        Object[] row = result instanceof Object[] array ? array : new Object[]{result};
+        long[] totals = new long[filters.size()];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = row[i] == null ? 0 : ((Number) row[i]).longValue();
+        }
+        return totals;
+    }
+
+    private static boolean isJoinFree(RequestFilter filter) {
+        for (List<Criteria> criterias : List.of(filter.getAndCriterias(), filter.getOrCriterias())) {
+            for (Criteria criteria : criterias) {
+                if (criteria.key() == null || criteria.key().indexOf('.') >= 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private <V> List<BatchResult<V>> runConcurrently(List<RequestFilter> filters, Function<RequestFilter, V> action) {
+        List<BatchResult<V>> results = new ArrayList<>(Collections.nCopies(filters.size(), null));
+        if (filters.size() == 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            for (int i = 0; i < filters.size(); i++) {
+                RequestFilter filter = filters.get(i);
+                results.set(i, BatchResult.of(() -> inReadOnlyTransaction(() -> action.apply(filter))));
+            }
+            return results;
+        }
+        // Chaque filtre est pris une seule fois : par la tâche qui l'exécute, ou par l'appelant qui l'abandonne
+        int size = filters.size();
+        AtomicIntegerArray taken = new AtomicIntegerArray(size);
+        AtomicReferenceArray<BatchResult<V>> slots = new AtomicReferenceArray<>(size);
+        CountDownLatch done = new CountDownLatch(size);
+        ExecutorService executor = batchExecutor();
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            RequestFilter filter = filters.get(i);
+            try {
+                executor.execute(ReadReplicaRoutingDataSource.propagate(() -> {
+                    if (taken.compareAndSet(index, 0, 1)) {
+                        try {
+                            slots.set(index, BatchResult.of(() -> inReadOnlyTransaction(() -> action.apply(filter))));
+                        } finally {
+                            done.countDown();
+                        }
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                abandon(index, taken, slots, done, "Service arrêté");
+            }
+        }
+        awaitBatch(taken, slots, done);
+        for (int i = 0; i < size; i++) {
+            results.set(i, slots.get(i));
+        }
+        return results;
+    }
+
+    /**
+     * Attend la fin des filtres soumis. Une interruption abandonne ceux qui n'ont pas commencé et attend ceux en
+     * cours, qui tiennent une connexion.
+     */
+    private static <V> void awaitBatch(AtomicIntegerArray taken, AtomicReferenceArray<BatchResult<V>> slots,
+                                       CountDownLatch done) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                done.await();
+                break;
+            } catch (InterruptedException e) {
+                if (!interrupted) {
+                    interrupted = true;
+                    for (int i = 0; i < slots.length(); i++) {
+                        abandon(i, taken, slots, done, "Interrompu");
+                    }
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <V> void abandon(int index, AtomicIntegerArray taken, AtomicReferenceArray<BatchResult<V>> slots,
+                                    CountDownLatch done, String reason) {
+        if (taken.compareAndSet(index, 0, 1)) {
+            slots.set(index, BatchResult.failure(List.of(reason)));
+            done.countDown();
+        }
+    }
+
+    /**
+     * Exécuteur partagé par les appels groupés du service : au plus {@link #setBatchConcurrency(int)} filtres
+     * s'exécutent à la fois, tous appels confondus.
+     */
+    private ExecutorService batchExecutor() {
+        ThreadPoolExecutor executor = batchExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = batchExecutor;
+                if (executor == null) {
+                    executor = BoundedExecutors.create("ovunix-batch", batchConcurrency);
+                    batchExecutor = executor;
+                }
+            }
+        }
+        return executor;
     }
 
-    private Path<?> resolvePath(From<?, ?> root, String key) {
+    /**
+     * Exécute dans une transaction en lecture seule, ou directement dans celle de l'appelant : la rejoindre par
+     * un {@link TransactionTemplate} la marquerait « rollback-only » au premier filtre en échec.
+     */
+    private <R> R inReadOnlyTransaction(Supplier<R> action) {
+        if (transactionManager == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        TransactionTemplate template = readOnlyTemplate;
+        if (template == null) {
+            template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            readOnlyTemplate = template;
+        }
+        return template.execute(status -> action.get());
+    }
+
+    /**
+     * Nombre maximal de filtres exécutés simultanément par {@link #filterMany(List)} et {@link #countMany(List)}
+     * (chacun tient une connexion), tous appels du service confondus. Par défaut 4.
+     */
+    public synchronized void setBatchConcurrency(int batchConcurrency) {
+        if (batchConcurrency < 1) {
+            throw new IllegalArgumentException("batchConcurrency doit être strictement positif");
+        }
+        this.batchConcurrency = batchConcurrency;
+        ThreadPoolExecutor executor = batchExecutor;
+        if (executor != null) {
+            BoundedExecutors.resize(executor, batchConcurrency);
+        }
+    }
+
+    /**
+     * Résout la clé d'un critère. Les jointures vers des associations simples sont partagées par chemin (avec
+     * les FETCH du plan de chargement et entre critères) ; une collection garde une jointure par critère, pour
+     * que deux critères puissent porter sur deux éléments différents.
+     */
+    private Path<?> resolvePath(Root<?> root, String key, Map<String, From<?, ?>> joins) {
         String[] parts = key.split("\\.");
-        Path<?> path = root;
+        From<?, ?> from = root;
+        String prefix = "";
+        boolean shared = true;
         for (int i = 0; i < parts.length - 1; i++) {
-            path = ((From<?, ?>) path).join(parts[i], JoinType.LEFT);
+            String part = parts[i];
+            prefix = prefix.isEmpty() ? part : prefix + "." + part;
+            shared = shared && isSingularPath(root.getModel(), prefix);
+            if (shared) {
+                From<?, ?> parent = from;
+                from = joins.computeIfAbsent(prefix, p -> parent.join(part, JoinType.LEFT));
+            } else {
+                from = from.join(part, JoinType.LEFT);
+            }
         }
-        return path.get(parts[parts.length - 1]);
+        return from.get(parts[parts.length - 1]);
     }
 
     @Override
     public void setBusinessStrategy(BusinessStrategy strategy) {
         this.businessStrategy = strategy;
+        this.strategyHasAfterCommit = null;
     }
 
     private boolean isComparable(Class<?> type) {
@@ -250,9 +1187,124 @@ public abstract class AbstractServiceImpl<T extends AbstractDto, ID extends Seri
         return  this.abstractMappers().toDto(abstractEntity);
     }
 
+    /**
+     * Convertit une page d'entités. Passe par {@link AbstractMappers#toDtos(List)} sauf si la sous-classe
+     * a redéfini {@link #determineMapping(Persistable)}, auquel cas celle-ci est appliquée ligne par ligne.
+     */
+    protected List<T> determineMappings(List<Persistable> entities) {
+        if (overridesDetermineMapping()) {
+            List<T> results = new ArrayList<>(entities.size());
+            for (Persistable entity : entities) {
+                results.add((T) determineMapping(entity));
+            }
+            return results;
+        }
+        return abstractMappers().toDtos(entities);
+    }
+
+    private boolean overridesDetermineMapping() {
+        Boolean overrides = overridesDetermineMapping;
+        if (overrides == null) {
+            Method method = ReflectionUtils.findMethod(getClass(), "determineMapping", Persistable.class);
+            overrides = method != null && method.getDeclaringClass() != AbstractServiceImpl.class;
+            overridesDetermineMapping = overrides;
+        }
+        return overrides;
+    }
+
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true, rollbackFor = {OvunixException.class, Exception.class})
     public CountDto count() {
-        long total = abstractRepository().count();
-        return new CountDto((int) total);
+        if (countMode == CountMode.EXACT) {
+            return new CountDto(inReadOnlyTransaction(() -> abstractRepository().count()));
+        }
+        if (countMode == CountMode.ESTIMATED) {
+            long estimate = inReadOnlyTransaction(() -> rowCountEstimator().estimate(entityClass()));
+            if (estimate >= 0) {
+                return new CountDto(estimate);
+            }
+        }
+        long generation = generation().current();
+        Long cached = countCache.get(RequestFilterKey.UNFILTERED, generation);
+        if (cached != null) {
+            return new CountDto(cached);
+        }
+        long total = inReadOnlyTransaction(() -> abstractRepository().count());
+        if (unchangedSince(generation)) {
+            countCache.put(RequestFilterKey.UNFILTERED, generation, total);
+        }
+        return new CountDto(total);
+    }
+
+    /**
+     * Choisit la stratégie de comptage de {@link #count()} et {@link #count(RequestFilter)}.
+     * Par défaut {@link CountMode#EXACT} : aucun cache.
+     */
+    public void setCountMode(CountMode countMode) {
+        this.countMode = countMode;
+    }
+
+    /**
+     * Remplace le cache de comptage (taille, durée de vie) utilisé par les modes CACHED et ESTIMATED.
+     */
+    public void setCountCache(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
+    /**
+     * Classe de l'entité gérée, résolue depuis les paramètres génériques du repository, à défaut du mapper.
+     */
+    protected Class<?> entityClass() {
+        Class<?> resolved = entityClass;
+        if (resolved == null) {
+            resolved = resolveGeneric(abstractRepository(), AbstractRepository.class, 0);
+            if (resolved == null) {
+                resolved = resolveGeneric(abstractMappers(), AbstractMappers.class, 1);
+            }
+            if (resolved == null) {
+                throw new IllegalStateException("Impossible de déterminer la classe d'entité de " + getClass().getName());
+            }
+            entityClass = resolved;
+        }
+        return resolved;
+    }
+
+    protected EntityGeneration generation() {
+        return EntityGeneration.of(entityClass());
+    }
+
+    /**
+     * Vrai si aucune écriture n'a eu lieu depuis la lecture de {@code generation} : un résultat obtenu pendant
+     * une écriture n'est pas mis en cache, pour ne pas remplacer une entrée plus récente.
+     */
+    private boolean unchangedSince(long generation) {
+        return generation().current() == generation;
+    }
+
+    /**
+     * À appeler après chaque écriture : invalide les caches de l'entité et garde le thread sur le primaire.
+     */
+    protected void afterWrite() {
+        generation().invalidate();
+        ReadReplicaRoutingDataSource.markWrite();
+    }
+
+    private RowCountEstimator rowCountEstimator() {
+        RowCountEstimator estimator = rowCountEstimator;
+        if (estimator == null) {
+            estimator = new RowCountEstimator(entityManager);
+            rowCountEstimator = estimator;
+        }
+        return estimator;
+    }
+
+    private static Class<?> resolveGeneric(Object bean, Class<?> genericType, int index) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(bean.getClass())) {
+            Class<?> resolved = ResolvableType.forClass(type).as(genericType).getGeneric(index).resolve();
+            if (resolved != null && resolved != Persistable.class) {
+                return resolved;
+            }
+        }
+        return null;
     }
 }
@@ -0,0 +1,211 @@
+package com.ovunix.core.service;
+
+import com.ovunix.core.annotations.AfterCommitMode;
+import com.ovunix.core.config.ReadReplicaRoutingDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exécute les traitements post-commit des {@link com.ovunix.core.strategy.BusinessStrategy} hors du thread appelant,
+ * sur des threads virtuels quand le JDK en dispose (voir {@link BoundedExecutors}).
+ * <p>
+ * Au plus {@code maxConcurrency} traitements tournent à la fois et au plus {@code queueCapacity} autres attendent.
+ * Au-delà, ou après {@link #close()}, un traitement est refusé : il n'est pas exécuté, le refus est journalisé et
+ * compté ({@link #getRejectedCount()}), et l'appelant n'est jamais bloqué. En mode
+ * {@link AfterCommitMode#ORDERED_PER_ENTITY}, les traitements d'un même identifiant s'exécutent un par un dans
+ * l'ordre de soumission. Une exception dans un traitement est journalisée et comptée, sans effet sur les autres.
+ */
+public class AfterCommitExecutor implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AfterCommitExecutor.class);
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+    private final AfterCommitMode mode;
+    private final int capacity;
+    private final Semaphore admission;
+    private final ExecutorService executor;
+    private final Map<Object, Deque<Runnable>> queues = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder durationNanos = new LongAdder();
+
+    public AfterCommitExecutor(AfterCommitMode mode, int maxConcurrency) {
+        this(mode, maxConcurrency, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public AfterCommitExecutor(AfterCommitMode mode, int maxConcurrency, int queueCapacity) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency doit être strictement positif");
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("queueCapacity doit être positif");
+        }
+        this.mode = mode;
+        this.capacity = maxConcurrency + queueCapacity;
+        this.admission = new Semaphore(capacity);
+        this.executor = BoundedExecutors.create("ovunix-after-commit", maxConcurrency);
+    }
+
+    /**
+     * Soumet un traitement. {@code key} (l'identifiant de l'entité) ordonne les traitements en mode
+     * {@link AfterCommitMode#ORDERED_PER_ENTITY} ; null les rend indépendants.
+     *
+     * @return false si le traitement est refusé (file pleine ou exécuteur fermé)
+     */
+    public boolean submit(Object key, Runnable task) {
+        if (closed) {
+            return reject(key, 1, "executor closed");
+        }
+        if (!admission.tryAcquire()) {
+            return reject(key, 1, "queue full");
+        }
+        submitted.increment();
+        // L'écriture qui vient d'être validée doit rester lisible sur le primaire depuis le thread du traitement
+        Runnable propagated = ReadReplicaRoutingDataSource.propagate(task);
+        if (mode == AfterCommitMode.PARALLEL || key == null) {
+            try {
+                executor.execute(() -> run(propagated));
+            } catch (RejectedExecutionException e) {
+                abandon(1);
+                return reject(key, 1, "executor closed");
+            }
+            return true;
+        }
+        boolean[] first = new boolean[1];
+        queues.compute(key, (k, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                first[0] = true;
+            }
+            queue.add(propagated);
+            return queue;
+        });
+        if (first[0]) {
+            try {
+                executor.execute(() -> drain(key, propagated));
+            } catch (RejectedExecutionException e) {
+                Deque<Runnable> dropped = queues.remove(key);
+                int count = dropped == null ? 1 : dropped.size();
+                abandon(count);
+                return reject(key, count, "executor closed");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Exécute la file d'un identifiant jusqu'à ce qu'elle soit vide. La tête de file reste en place pendant son
+     * exécution : une soumission concurrente pour le même identifiant s'y ajoute sans lancer un second drain.
+     */
+    private void drain(Object key, Runnable first) {
+        Runnable task = first;
+        while (task != null) {
+            run(task);
+            Runnable[] next = new Runnable[1];
+            queues.compute(key, (k, queue) -> {
+                queue.poll();
+                next[0] = queue.peek();
+                return queue.isEmpty() ? null : queue;
+            });
+            task = next[0];
+        }
+    }
+
+    private void run(Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+            completed.increment();
+        } catch (Throwable e) {
+            failed.increment();
+            LOGGER.error("After-commit strategy failed", e);
+        } finally {
+            durationNanos.add(System.nanoTime() - start);
+            admission.release();
+        }
+    }
+
+    /** Traitements admis puis refusés par l'exécuteur (fermé entre-temps) : ils ne sont plus en attente. */
+    private void abandon(int count) {
+        submitted.add(-count);
+        admission.release(count);
+    }
+
+    private boolean reject(Object key, int count, String reason) {
+        rejected.add(count);
+        LOGGER.warn("{} after-commit task(s) rejected ({}), key {}", count, reason, key);
+        return false;
+    }
+
+    /**
+     * Refuse les nouveaux traitements et attend, au plus {@code timeout}, la fin de ceux déjà admis, files
+     * ordonnées comprises.
+     */
+    public void close(Duration timeout) {
+        closed = true;
+        try {
+            if (admission.tryAcquire(capacity, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                admission.release(capacity);
+            } else {
+                LOGGER.warn("{} after-commit tasks still pending at shutdown", getPendingCount());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(30));
+    }
+
+    public AfterCommitMode getMode() {
+        return mode;
+    }
+
+    /** Traitements admis. */
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /** Traitements refusés : file pleine ou exécuteur fermé. */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /** Traitements admis mais pas encore terminés. */
+    public long getPendingCount() {
+        return submitted.sum() - completed.sum() - failed.sum();
+    }
+
+    /** Durée cumulée d'exécution des traitements, en nanosecondes. */
+    public long getTotalDurationNanos() {
+        return durationNanos.sum();
+    }
+}
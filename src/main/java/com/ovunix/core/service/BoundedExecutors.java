@@ -0,0 +1,90 @@
+package com.ovunix.core.service;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exécuteurs à nombre de threads borné.
+ * <p>
+ * La bibliothèque est compilée pour Java 17 : sur un JDK 21 ou plus, les threads sont virtuels
+ * ({@code Thread.ofVirtual()}, résolu à l'exécution) ; sinon ce sont des threads de plate-forme démons. Dans les
+ * deux cas, au plus {@code threads} tâches tournent à la fois et les threads inactifs sont libérés. La file
+ * d'attente n'a pas de limite propre : l'appelant borne le nombre de tâches qu'il y dépose.
+ */
+final class BoundedExecutors {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builder.getMethod("name", String.class, long.class);
+            factory = builder.getMethod("factory");
+        } catch (ReflectiveOperationException e) {
+            // JDK sans threads virtuels : threads de plate-forme
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+    }
+
+    private BoundedExecutors() {
+    }
+
+    /**
+     * @param prefix  préfixe du nom des threads
+     * @param threads nombre maximal de tâches exécutées simultanément ; modifiable ensuite par
+     *                {@link #resize(ThreadPoolExecutor, int)}
+     */
+    static ThreadPoolExecutor create(String prefix, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads doit être strictement positif");
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory(prefix));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    static void resize(ThreadPoolExecutor executor, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads doit être strictement positif");
+        }
+        // Le maximum ne peut pas passer sous le minimum, ni l'inverse
+        if (threads > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(threads);
+            executor.setCorePoolSize(threads);
+        } else {
+            executor.setCorePoolSize(threads);
+            executor.setMaximumPoolSize(threads);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        if (OF_VIRTUAL != null) {
+            try {
+                Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), prefix + "-", 1L);
+                return (ThreadFactory) FACTORY.invoke(builder);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // Threads virtuels indisponibles : repli sur les threads de plate-forme
+            }
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.ovunix.core.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compteurs de conflits de verrou optimiste par entité, pour repérer où se situe la contention.
+ */
+public final class ContentionStats {
+
+    private static final Map<Class<?>, ContentionStats> STATS = new ConcurrentHashMap<>();
+
+    private final String entity;
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private ContentionStats(String entity) {
+        this.entity = entity;
+    }
+
+    public static ContentionStats of(Class<?> entityClass) {
+        return STATS.computeIfAbsent(entityClass, c -> new ContentionStats(c.getSimpleName()));
+    }
+
+    /**
+     * Compteurs de toutes les entités ayant rencontré au moins une écriture.
+     */
+    public static Map<Class<?>, ContentionStats> all() {
+        return Map.copyOf(STATS);
+    }
+
+    void conflict() {
+        conflicts.increment();
+    }
+
+    void retry() {
+        retries.increment();
+    }
+
+    void failure() {
+        failures.increment();
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    /** Nombre de conflits détectés, y compris ceux résolus par un nouvel essai. */
+    public long getConflicts() {
+        return conflicts.sum();
+    }
+
+    /** Nombre de nouveaux essais effectués. */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /** Nombre de conflits remontés à l'appelant (tentatives épuisées ou fusion refusée). */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public String toString() {
+        return entity + "[conflicts=" + getConflicts() + ", retries=" + getRetries() + ", failures=" + getFailures() + "]";
+    }
+}
@@ -1,12 +1,14 @@
 package com.ovunix.core.service;
 
 import com.ovunix.core.dto.AbstractDto;
+import com.ovunix.core.dto.BatchResult;
 import com.ovunix.core.dto.CountDto;
 import com.ovunix.core.dto.RequestFilter;
 import com.ovunix.core.strategy.BusinessStrategy;
 import com.ovunix.core.validators.Validator;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +26,14 @@ public interface IAbstractService <T extends AbstractDto,ID extends Serializable
 
     List <T> filter(RequestFilter filter);
 
+    /**
+     * Variante de {@link #filter(RequestFilter)} qui peut différer la conversion de chaque ligne à sa première
+     * lecture. Par défaut, identique à {@link #filter(RequestFilter)}.
+     */
+    default List <T> filterView(RequestFilter filter) {
+        return filter(filter);
+    }
+
     void setValidator (Validator validator);
 
    void  setBusinessStrategy (BusinessStrategy businessStrategy);
@@ -31,4 +41,28 @@ public interface IAbstractService <T extends AbstractDto,ID extends Serializable
    CountDto count(RequestFilter filter);
 
    CountDto count();
+
+    /**
+     * Exécute plusieurs {@link #filter(RequestFilter)} ; résultats dans l'ordre des filtres, avec les erreurs propres
+     * à chacun. Par défaut, un appel par filtre, l'un après l'autre.
+     */
+    default List<BatchResult<List<T>>> filterMany(List<RequestFilter> filters) {
+        List<BatchResult<List<T>>> results = new ArrayList<>(filters.size());
+        for (RequestFilter filter : filters) {
+            results.add(BatchResult.of(() -> filter(filter)));
+        }
+        return results;
+    }
+
+    /**
+     * Exécute plusieurs {@link #count(RequestFilter)} ; résultats dans l'ordre des filtres, avec les erreurs propres
+     * à chacun. Par défaut, un appel par filtre, l'un après l'autre.
+     */
+    default List<BatchResult<CountDto>> countMany(List<RequestFilter> filters) {
+        List<BatchResult<CountDto>> results = new ArrayList<>(filters.size());
+        for (RequestFilter filter : filters) {
+            results.add(BatchResult.of(() -> count(filter)));
+        }
+        return results;
+    }
 }
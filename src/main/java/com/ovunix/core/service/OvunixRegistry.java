@@ -0,0 +1,183 @@
+package com.ovunix.core.service;
+
+import com.ovunix.core.config.KeyGeneratorIndex;
+import com.ovunix.core.strategy.BusinessStrategy;
+import com.ovunix.core.validators.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index construit une fois au démarrage : validateurs et stratégies métier par classe de DTO (d'après leurs
+ * paramètres génériques), classe d'entité et champ {@link com.ovunix.core.config.KeyGenerator} de chaque service.
+ * <p>
+ * Le démarrage échoue si, pour un service : la classe d'entité ne peut pas être déterminée ; son champ
+ * {@code @KeyGenerator} ne peut pas recevoir la clé générée ; il n'a pas de gestionnaire de transactions (plusieurs
+ * dans le contexte, aucun {@code @Primary}) ; il exige un validateur ou une stratégie
+ * ({@link AbstractServiceImpl#requiresValidator()}, {@link AbstractServiceImpl#requiresStrategy()}) et aucun n'est
+ * résolu. {@link AbstractServiceImpl} résout d'abord par cet index, à défaut par nom de bean ({@code fooValidator},
+ * {@code fooStrategy}). Si deux validateurs (ou deux stratégies) visent le même DTO, un avertissement est journalisé
+ * et ce DTO n'est pas indexé : seul le nom de bean le résout. Les validateurs et stratégies dont le type n'est pas
+ * résolvable (lambdas) ne sont pas indexés non plus.
+ */
+@Component
+public class OvunixRegistry implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OvunixRegistry.class);
+
+    private final ListableBeanFactory beanFactory;
+
+    private volatile Map<Class<?>, Validator<?>> validators = Map.of();
+    private volatile Map<Class<?>, BusinessStrategy<?, ?>> strategies = Map.of();
+    private volatile Map<Class<?>, Class<?>> entityClasses = Map.of();
+    private volatile boolean initialized;
+
+    public OvunixRegistry(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<String> errors = new ArrayList<>();
+        // Publiés avant les vérifications : la résolution des services ci-dessous passe par l'index
+        validators = Map.copyOf(index(Validator.class, 0));
+        strategies = Map.copyOf(index(BusinessStrategy.class, 1));
+        initialized = true;
+
+        Map<Class<?>, Class<?>> entityIndex = new HashMap<>();
+        for (Map.Entry<String, AbstractServiceImpl> entry : beanFactory.getBeansOfType(AbstractServiceImpl.class).entrySet()) {
+            String name = entry.getKey();
+            AbstractServiceImpl service = (AbstractServiceImpl) target(entry.getValue());
+            if (service.transactionManager == null) {
+                errors.add(name + " : " + AbstractServiceImpl.MISSING_TRANSACTION_MANAGER);
+            }
+            try {
+                Class<?> entityClass = service.entityClass();
+                checkKeyField(name, entityClass, errors);
+                Class<?> dtoClass = resolve(service, AbstractServiceImpl.class, 0);
+                if (dtoClass != null) {
+                    entityIndex.put(dtoClass, entityClass);
+                }
+                checkRequiredBeans(name, service, dtoClass, errors);
+            } catch (RuntimeException e) {
+                errors.add(name + " : " + e.getMessage());
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Configuration Ovunix invalide :\n - " + String.join("\n - ", errors));
+        }
+        entityClasses = Map.copyOf(entityIndex);
+    }
+
+    /**
+     * Le champ {@link com.ovunix.core.config.KeyGenerator} doit pouvoir recevoir la clé générée (une chaîne).
+     */
+    private static void checkKeyField(String name, Class<?> entityClass, List<String> errors) {
+        Field keyField = KeyGeneratorIndex.keyField(entityClass);
+        if (keyField == null) {
+            return;
+        }
+        int modifiers = keyField.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || !keyField.getType().isAssignableFrom(String.class)) {
+            errors.add(name + " : champ @KeyGenerator " + entityClass.getSimpleName() + "." + keyField.getName()
+                    + " inutilisable, un champ d'instance non final de type String est attendu");
+        }
+    }
+
+    private static void checkRequiredBeans(String name, AbstractServiceImpl service, Class<?> dtoClass, List<String> errors) {
+        if (!service.requiresValidator() && !service.requiresStrategy()) {
+            return;
+        }
+        if (dtoClass == null) {
+            errors.add(name + " : classe de DTO indéterminée, validateur et stratégie introuvables");
+            return;
+        }
+        if (service.requiresValidator() && service.getValidator(dtoClass) == null) {
+            errors.add(name + " : aucun Validator<" + dtoClass.getSimpleName() + "> déclaré");
+        }
+        if (service.requiresStrategy() && service.businessStrategy == null && service.getStrategy(dtoClass) == null) {
+            errors.add(name + " : aucune BusinessStrategy<?, " + dtoClass.getSimpleName() + "> déclarée");
+        }
+    }
+
+    private <B> Map<Class<?>, B> index(Class<?> type, int dtoIndex) {
+        Map<Class<?>, B> index = new HashMap<>();
+        Map<Class<?>, List<String>> names = new HashMap<>();
+        for (Map.Entry<String, ?> entry : beanFactory.getBeansOfType(type).entrySet()) {
+            Class<?> dtoClass = resolve(target(entry.getValue()), type, dtoIndex);
+            if (dtoClass == null) {
+                continue;
+            }
+            index.putIfAbsent(dtoClass, (B) entry.getValue());
+            names.computeIfAbsent(dtoClass, k -> new ArrayList<>()).add(entry.getKey());
+        }
+        for (Map.Entry<Class<?>, List<String>> entry : names.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                index.remove(entry.getKey());
+                LOGGER.warn("Several {} beans for {} ({}): resolved by bean name only",
+                        type.getSimpleName(), entry.getKey().getName(), String.join(", ", entry.getValue()));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Validateur déclaré pour ce DTO (ou l'un de ses parents), ou null.
+     */
+    public Validator<?> validator(Class<?> dtoClass) {
+        return lookup(validators, dtoClass);
+    }
+
+    /**
+     * Stratégie métier déclarée pour ce DTO (ou l'un de ses parents), ou null.
+     */
+    public BusinessStrategy<?, ?> strategy(Class<?> dtoClass) {
+        return lookup(strategies, dtoClass);
+    }
+
+    /**
+     * true une fois les validateurs et stratégies indexés : une absence dans l'index est alors définitive.
+     */
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    /**
+     * Classe d'entité du service qui gère ce DTO, ou null.
+     */
+    public Class<?> entityClass(Class<?> dtoClass) {
+        return lookup(entityClasses, dtoClass);
+    }
+
+    private static <V> V lookup(Map<Class<?>, V> index, Class<?> dtoClass) {
+        for (Class<?> current = dtoClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            V value = index.get(current);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static Object target(Object bean) {
+        Object target = AopProxyUtils.getSingletonTarget(bean);
+        return target != null ? target : bean;
+    }
+
+    private static Class<?> resolve(Object bean, Class<?> genericType, int index) {
+        return ResolvableType.forClass(ClassUtils.getUserClass(bean)).as(genericType).getGeneric(index).resolve();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ovunix.core.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Politique de nouvel essai sur conflit de verrou optimiste : nombre maximal de tentatives et
+ * attente exponentielle avec gigue entre deux tentatives.
+ *
+ * @param maxAttempts    nombre total de tentatives, 1 pour aucun nouvel essai
+ * @param initialBackoff attente avant le premier nouvel essai
+ * @param maxBackoff     plafond de l'attente
+ */
+public record RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+    /** Aucun nouvel essai : le conflit est remonté immédiatement. */
+    public static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO);
+
+    public RetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts doit être au moins 1");
+        }
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("Les attentes doivent vérifier 0 <= initialBackoff <= maxBackoff");
+        }
+    }
+
+    public static RetryPolicy of(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        return new RetryPolicy(maxAttempts, initialBackoff, maxBackoff);
+    }
+
+    /**
+     * Attente avant la tentative suivant l'échec numéro {@code attempt} (à partir de 1) :
+     * {@code min(max, initial * 2^(attempt-1))}, tirée au hasard entre la moitié et la totalité de cette valeur
+     * pour désynchroniser les appelants en concurrence.
+     */
+    public Duration backoff(int attempt) {
+        long initial = initialBackoff.toNanos();
+        long cap = maxBackoff.toNanos();
+        int shift = Math.max(attempt - 1, 0);
+        long exponential = cap;
+        if (shift < Long.SIZE - 1 && initial <= (cap >> shift)) {
+            exponential = initial << shift;
+        }
+        if (exponential <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(exponential / 2, exponential + 1));
+    }
+}
@@ -0,0 +1,218 @@
+package com.ovunix.core.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Tampon write-behind borné : une case par identifiant, la mise à jour la plus récente remplace la précédente.
+ * <p>
+ * Le tampon est vidé par lots, soit dès que {@link WriteBehindConfig#batchSize()} identifiants sont en attente,
+ * soit toutes les {@link WriteBehindConfig#flushInterval()}. Les vidages sont séquentiels : une valeur plus
+ * récente d'un même identifiant est toujours écrite après la précédente. Quand le tampon est plein,
+ * {@link #offer(Object, Object)} attend une place au plus {@link WriteBehindConfig#offerTimeout()}.
+ * <p>
+ * Un lot en échec est rejoué élément par élément ; les éléments encore en échec sont écartés et comptés,
+ * sans bloquer les autres.
+ *
+ * @param <K> type de l'identifiant
+ * @param <V> type de la valeur à écrire
+ */
+public class WriteBehindBuffer<K, V> implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindBuffer.class);
+
+    private final WriteBehindConfig config;
+    private final Consumer<List<V>> writer;
+    private final Map<K, V> pending = new ConcurrentHashMap<>();
+    private final Map<K, V> inFlight = new ConcurrentHashMap<>();
+    private final Semaphore slots;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean closed;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * @param name   nom du thread de vidage
+     * @param config paramètres du tampon
+     * @param writer écrit un lot de valeurs dans une transaction
+     */
+    public WriteBehindBuffer(String name, WriteBehindConfig config, Consumer<List<V>> writer) {
+        this.config = config;
+        this.writer = writer;
+        this.slots = new Semaphore(config.capacity());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = config.flushInterval().toNanos();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Met une valeur en attente d'écriture, en remplaçant celle déjà en attente pour le même identifiant.
+     *
+     * @return false si le tampon est fermé, ou plein au-delà du délai d'attente
+     */
+    public boolean offer(K id, V value) throws InterruptedException {
+        if (closed) {
+            return false;
+        }
+        if (pending.computeIfPresent(id, (k, previous) -> value) != null) {
+            coalesced.increment();
+            return true;
+        }
+        if (!slots.tryAcquire(config.offerTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+        if (pending.put(id, value) != null) {
+            slots.release(); // un autre appelant a créé la case entre-temps
+            coalesced.increment();
+        }
+        if (pending.size() >= config.batchSize() && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flushQuietly);
+        }
+        return true;
+    }
+
+    /**
+     * Valeur pas encore écrite (en attente ou en cours d'écriture) pour cet identifiant, sinon null.
+     */
+    public V pendingValue(K id) {
+        V value = pending.get(id);
+        return value != null ? value : inFlight.get(id);
+    }
+
+    /**
+     * Retire la valeur en attente pour cet identifiant (suppression de l'entité, par exemple), sans attendre : une
+     * valeur déjà en cours d'écriture n'est plus visible par {@link #pendingValue(Object)} mais son écriture se
+     * poursuit. C'est au {@code writer} de ne pas écraser une suppression concurrente (verrou de ligne, version),
+     * l'appelant pouvant tenir ce verrou dans sa propre transaction.
+     */
+    public void discard(K id) {
+        if (pending.remove(id) != null) {
+            slots.release();
+        }
+        inFlight.remove(id);
+    }
+
+    /**
+     * Écrit tout ce qui est en attente, par lots, dans le thread appelant.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            while (!pending.isEmpty()) {
+                List<V> batch = new ArrayList<>(Math.min(config.batchSize(), pending.size()));
+                Iterator<K> ids = pending.keySet().iterator();
+                while (ids.hasNext() && batch.size() < config.batchSize()) {
+                    V value = take(ids.next());
+                    if (value != null) {
+                        batch.add(value);
+                        slots.release();
+                    }
+                }
+                write(batch);
+                inFlight.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Passe la valeur de {@code id} de l'attente à l'écriture. Elle est publiée dans {@code inFlight} avant
+     * d'être retirée de {@code pending} : {@link #pendingValue(Object)} la trouve toujours dans l'un des deux.
+     *
+     * @return la valeur prise, ou null si l'identifiant a été retiré entre-temps
+     */
+    private V take(K id) {
+        for (V value = pending.get(id); value != null; value = pending.get(id)) {
+            inFlight.put(id, value);
+            if (pending.remove(id, value)) {
+                return value;
+            }
+            // Remplacée ou retirée entre-temps : on reprend la valeur courante
+            inFlight.remove(id, value);
+        }
+        return null;
+    }
+
+    private void write(List<V> batch) {
+        try {
+            writer.accept(batch);
+            written.add(batch.size());
+        } catch (RuntimeException batchError) {
+            for (V value : batch) {
+                try {
+                    writer.accept(List.of(value));
+                    written.increment();
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    LOGGER.error("Write-behind update dropped after failure: {}", value, e);
+                }
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.error("Write-behind flush failed", e);
+        }
+    }
+
+    /**
+     * Refuse les nouvelles valeurs, écrit celles en attente puis arrête le thread de vidage.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdown();
+        flush();
+        try {
+            scheduler.awaitTermination(config.flushInterval().toMillis() + 1000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /** Nombre de mises à jour écrites en base. */
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /** Nombre de mises à jour remplacées par une plus récente avant d'être écrites. */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /** Nombre de mises à jour écartées après échec. */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+}
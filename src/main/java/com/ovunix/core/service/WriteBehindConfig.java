@@ -0,0 +1,32 @@
+package com.ovunix.core.service;
+
+import java.time.Duration;
+
+/**
+ * Paramètres du mode write-behind d'{@link AbstractServiceImpl}.
+ *
+ * @param capacity      nombre maximal d'identifiants en attente d'écriture
+ * @param batchSize     nombre de mises à jour écrites par transaction ; un vidage est déclenché dès que ce nombre est
+ *                      atteint, il ne peut donc pas dépasser {@code capacity}
+ * @param flushInterval délai maximal avant qu'une mise à jour en attente soit écrite
+ * @param offerTimeout  attente maximale d'une place quand le tampon est plein, avant de refuser la mise à jour
+ */
+public record WriteBehindConfig(int capacity, int batchSize, Duration flushInterval, Duration offerTimeout) {
+
+    public WriteBehindConfig {
+        if (capacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("capacity et batchSize doivent être strictement positifs");
+        }
+        if (batchSize > capacity) {
+            // Le seuil de vidage ne serait jamais atteint : seul le délai viderait le tampon plein
+            throw new IllegalArgumentException("batchSize (" + batchSize + ") ne peut pas dépasser capacity (" + capacity + ")");
+        }
+        if (flushInterval.isNegative() || flushInterval.isZero() || offerTimeout.isNegative()) {
+            throw new IllegalArgumentException("flushInterval doit être positif et offerTimeout non négatif");
+        }
+    }
+
+    public static WriteBehindConfig of(int capacity, int batchSize, Duration flushInterval, Duration offerTimeout) {
+        return new WriteBehindConfig(capacity, batchSize, flushInterval, offerTimeout);
+    }
+}
@@ -7,4 +7,12 @@ import com.ovunix.core.dto.AbstractDto;
 public interface BusinessStrategy<T extends Persistable, D extends AbstractDto> {
 
   void treat(T entity, D dto);
-}
\ No newline at end of file
+
+  /**
+   * Seconde phase, exécutée après le commit de l'écriture, hors transaction et hors du thread appelant
+   * (thread virtuel sous Java 21) : notifications, mises à jour d'agrégats... Une exception ici n'annule pas
+   * l'écriture : elle est journalisée et comptée. Par défaut, ne fait rien.
+   */
+  default void afterCommit(T entity, D dto) {
+  }
+}
@@ -0,0 +1,18 @@
+package com.ovunix.core.strategy;
+
+import com.ovunix.core.domain.Persistable;
+import com.ovunix.core.dto.AbstractDto;
+
+/**
+ * Réapplique une modification sur la dernière version d'une entité après un conflit de verrou optimiste.
+ */
+@FunctionalInterface
+public interface ConflictMergeStrategy<T extends Persistable, D extends AbstractDto> {
+
+  /**
+   * @param attempted le DTO dont l'enregistrement a échoué
+   * @param latest    l'entité telle qu'elle est actuellement en base (null si elle a été supprimée)
+   * @return le DTO à enregistrer au prochain essai, ou null pour abandonner et remonter le conflit
+   */
+  D merge(D attempted, T latest);
+}
@@ -1,23 +1,142 @@
 package com.ovunix.core.utils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
 
 public class DateUtils {
 
+    /** Formateur de référence pour le motif {@code yyyyMMyy}, construit une seule fois. */
+    private static final DateTimeFormatter YEAR_MONTH_YEAR = DateTimeFormatter.ofPattern("yyyyMMyy");
+
+    /** Nombre de jours entre le 0000-01-01 et le 1970-01-01 (cf. {@link LocalDate#toEpochDay()}). */
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    // ==================== Motif yyyyMMyy ====================
+
     public static String formatToYearMonthYear(LocalDate date) {
         if (date == null) {
             throw new IllegalArgumentException("La date ne peut pas être null");
         }
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMyy");
-        return date.format(formatter);
+        int year = date.getYear();
+        if (year < 1 || year > 9999) {
+            return date.format(YEAR_MONTH_YEAR);
+        }
+        char[] chars = new char[8];
+        writeDigits(chars, 0, year, 4);
+        writeDigits(chars, 4, date.getMonthValue(), 2);
+        writeDigits(chars, 6, year % 100, 2);
+        return new String(chars);
+    }
+
+    /**
+     * Écrit une date au format {@code yyyyMMyy} à la fin du builder fourni, sans allocation intermédiaire.
+     *
+     * @return le builder passé en paramètre
+     */
+    public static StringBuilder appendYearMonthYear(LocalDate date, StringBuilder out) {
+        if (date == null) {
+            throw new IllegalArgumentException("La date ne peut pas être null");
+        }
+        int year = date.getYear();
+        if (year < 1 || year > 9999) {
+            return out.append(date.format(YEAR_MONTH_YEAR));
+        }
+        appendDigits(out, year, 4);
+        appendDigits(out, date.getMonthValue(), 2);
+        return appendDigits(out, year % 100, 2);
     }
 
     public static LocalDate parseFromYearMonthYear(String dateStr) {
+        return parseFromYearMonthYear((CharSequence) dateStr);
+    }
+
+    /**
+     * Lit une date au format {@code yyyyMMyy} directement depuis les caractères, sans sous-chaîne.
+     * L'année retenue est déduite de {@code yy} (pivot 1950) et le jour est fixé au 1er du mois.
+     */
+    public static LocalDate parseFromYearMonthYear(CharSequence dateStr) {
         if (dateStr == null || dateStr.length() != 8) {
             throw new IllegalArgumentException("La date doit être au format 'yyyyMMyy' et contenir exactement 8 caractères");
         }
+        int month = digits(dateStr, 4, 2);
+        int yearShort = digits(dateStr, 6, 2);
+        if (month < 0 || yearShort < 0 || digits(dateStr, 0, 4) < 0) {
+            return parseFromYearMonthYearSlow(dateStr.toString());
+        }
+        return LocalDate.of(pivotYear(yearShort), month, 1);
+    }
+
+    /**
+     * Lit une date au format {@code yyyyMMyy} encodée en ASCII dans un tampon d'octets (ligne CSV, fichier mappé...).
+     *
+     * @param buffer tampon contenant la date
+     * @param offset position du premier caractère
+     */
+    public static LocalDate parseFromYearMonthYear(byte[] buffer, int offset) {
+        return LocalDate.ofEpochDay(yearMonthYearToEpochDay(buffer, offset));
+    }
+
+    /**
+     * Convertit une date au format {@code yyyyMMyy} en jour epoch, sans créer de {@link LocalDate}.
+     */
+    public static int yearMonthYearToEpochDay(CharSequence dateStr) {
+        if (dateStr == null || dateStr.length() != 8) {
+            throw new IllegalArgumentException("La date doit être au format 'yyyyMMyy' et contenir exactement 8 caractères");
+        }
+        int month = digits(dateStr, 4, 2);
+        int yearShort = digits(dateStr, 6, 2);
+        if (month < 0 || yearShort < 0 || digits(dateStr, 0, 4) < 0) {
+            return (int) parseFromYearMonthYearSlow(dateStr.toString()).toEpochDay();
+        }
+        return epochDay(pivotYear(yearShort), month, 1);
+    }
+
+    /**
+     * Convertit une date au format {@code yyyyMMyy} encodée en ASCII en jour epoch.
+     */
+    public static int yearMonthYearToEpochDay(byte[] buffer, int offset) {
+        checkBounds(buffer, offset, 8);
+        int month = digits(buffer, offset + 4, 2);
+        int yearShort = digits(buffer, offset + 6, 2);
+        if (month < 0 || yearShort < 0 || digits(buffer, offset, 4) < 0) {
+            throw new IllegalArgumentException("Format de date invalide : "
+                    + new String(buffer, offset, 8, StandardCharsets.ISO_8859_1));
+        }
+        return epochDay(pivotYear(yearShort), month, 1);
+    }
+
+    /**
+     * Lit une colonne de dates au format {@code yyyyMMyy}. Les valeurs null donnent null.
+     */
+    public static LocalDate[] parseAllFromYearMonthYear(CharSequence[] values) {
+        LocalDate[] dates = new LocalDate[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                dates[i] = parseFromYearMonthYear(values[i]);
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * Lit une colonne de dates au format {@code yyyyMMyy} en jours epoch.
+     */
+    public static int[] toEpochDaysFromYearMonthYear(CharSequence[] values) {
+        int[] days = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            days[i] = yearMonthYearToEpochDay(values[i]);
+        }
+        return days;
+    }
+
+    /**
+     * Version historique du parsing, conservée pour les entrées non strictement numériques
+     * (signe, chiffres non ASCII) afin de garder le même comportement.
+     */
+    private static LocalDate parseFromYearMonthYearSlow(String dateStr) {
         try {
 
             int yearFull = Integer.parseInt(dateStr.substring(0, 4)); // yyyy
@@ -34,6 +153,206 @@ public class DateUtils {
         }
     }
 
+    private static int pivotYear(int yearShort) {
+        return (yearShort >= 50) ? 1900 + yearShort : 2000 + yearShort;
+    }
+
+    // ==================== Motif yyyyMMdd ====================
+
+    /**
+     * Formate une date au format {@code yyyyMMdd} ({@link DateTimeFormatter#BASIC_ISO_DATE}).
+     */
+    public static String formatToBasicIsoDate(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("La date ne peut pas être null");
+        }
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            return date.format(DateTimeFormatter.BASIC_ISO_DATE);
+        }
+        char[] chars = new char[8];
+        writeDigits(chars, 0, year, 4);
+        writeDigits(chars, 4, date.getMonthValue(), 2);
+        writeDigits(chars, 6, date.getDayOfMonth(), 2);
+        return new String(chars);
+    }
+
+    /**
+     * Écrit une date au format {@code yyyyMMdd} à la fin du builder fourni.
+     *
+     * @return le builder passé en paramètre
+     */
+    public static StringBuilder appendBasicIsoDate(LocalDate date, StringBuilder out) {
+        if (date == null) {
+            throw new IllegalArgumentException("La date ne peut pas être null");
+        }
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            return out.append(date.format(DateTimeFormatter.BASIC_ISO_DATE));
+        }
+        appendDigits(out, year, 4);
+        appendDigits(out, date.getMonthValue(), 2);
+        return appendDigits(out, date.getDayOfMonth(), 2);
+    }
+
+    /**
+     * Lit une date au format {@code yyyyMMdd} directement depuis les caractères.
+     */
+    public static LocalDate parseBasicIsoDate(CharSequence dateStr) {
+        return LocalDate.ofEpochDay(basicIsoDateToEpochDay(dateStr));
+    }
+
+    /**
+     * Lit une date au format {@code yyyyMMdd} encodée en ASCII dans un tampon d'octets.
+     */
+    public static LocalDate parseBasicIsoDate(byte[] buffer, int offset) {
+        return LocalDate.ofEpochDay(basicIsoDateToEpochDay(buffer, offset));
+    }
+
+    /**
+     * Convertit une date au format {@code yyyyMMdd} en jour epoch, sans créer de {@link LocalDate}.
+     */
+    public static int basicIsoDateToEpochDay(CharSequence dateStr) {
+        if (dateStr == null || dateStr.length() != 8) {
+            throw new IllegalArgumentException("La date doit être au format 'yyyyMMdd' et contenir exactement 8 caractères");
+        }
+        int year = digits(dateStr, 0, 4);
+        int month = digits(dateStr, 4, 2);
+        int day = digits(dateStr, 6, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            throw new IllegalArgumentException("Format de date invalide : " + dateStr);
+        }
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * Convertit une date au format {@code yyyyMMdd} encodée en ASCII en jour epoch.
+     */
+    public static int basicIsoDateToEpochDay(byte[] buffer, int offset) {
+        checkBounds(buffer, offset, 8);
+        int year = digits(buffer, offset, 4);
+        int month = digits(buffer, offset + 4, 2);
+        int day = digits(buffer, offset + 6, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            throw new IllegalArgumentException("Format de date invalide : "
+                    + new String(buffer, offset, 8, StandardCharsets.ISO_8859_1));
+        }
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * Lit une colonne de dates au format {@code yyyyMMdd}. Les valeurs null donnent null.
+     */
+    public static LocalDate[] parseAllBasicIsoDates(CharSequence[] values) {
+        LocalDate[] dates = new LocalDate[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                dates[i] = parseBasicIsoDate(values[i]);
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * Lit une colonne de dates au format {@code yyyyMMdd} en jours epoch.
+     */
+    public static int[] toEpochDaysFromBasicIsoDate(CharSequence[] values) {
+        int[] days = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            days[i] = basicIsoDateToEpochDay(values[i]);
+        }
+        return days;
+    }
+
+    /**
+     * Lit {@code count} dates {@code yyyyMMdd} dans un tampon d'enregistrements à largeur fixe.
+     *
+     * @param buffer tampon ASCII
+     * @param offset position de la première date
+     * @param stride écart en octets entre deux dates consécutives (taille d'un enregistrement)
+     * @param count  nombre de dates à lire
+     */
+    public static int[] toEpochDaysFromBasicIsoDate(byte[] buffer, int offset, int stride, int count) {
+        int[] days = new int[count];
+        for (int i = 0, pos = offset; i < count; i++, pos += stride) {
+            days[i] = basicIsoDateToEpochDay(buffer, pos);
+        }
+        return days;
+    }
+
+    // ==================== Lecture / écriture de chiffres ====================
+
+    /**
+     * Lit {@code count} chiffres ASCII, ou retourne -1 si l'un des caractères n'est pas un chiffre.
+     */
+    private static int digits(CharSequence s, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) return -1;
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    private static int digits(byte[] buffer, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int d = buffer[i] - '0';
+            if (d < 0 || d > 9) return -1;
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    private static void writeDigits(char[] chars, int from, int value, int count) {
+        for (int i = from + count - 1; i >= from; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static StringBuilder appendDigits(StringBuilder out, int value, int count) {
+        int divisor = 1;
+        for (int i = 1; i < count; i++) divisor *= 10;
+        for (; divisor > 0; divisor /= 10) {
+            out.append((char) ('0' + (value / divisor) % 10));
+        }
+        return out;
+    }
+
+    private static void checkBounds(byte[] buffer, int offset, int length) {
+        if (buffer == null || offset < 0 || offset + length > buffer.length) {
+            throw new IllegalArgumentException("Le tampon ne contient pas de date à la position " + offset);
+        }
+    }
+
+    /**
+     * Calcule le jour epoch d'une date validée, selon le même algorithme que {@link LocalDate#toEpochDay()}.
+     */
+    private static int epochDay(int year, int month, int day) {
+        ChronoField.MONTH_OF_YEAR.checkValidValue(month);
+        ChronoField.DAY_OF_MONTH.checkValidValue(day);
+        if (day > 28 && day > Month.of(month).length(Year.isLeap(year))) {
+            throw new DateTimeException("Date invalide : " + year + "-" + month + "-" + day);
+        }
+        long y = year;
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += (367L * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!Year.isLeap(year)) {
+                total--;
+            }
+        }
+        return (int) (total - DAYS_0000_TO_1970);
+    }
 
     public static int calculateAge(LocalDate birthDate,LocalDate base) {
         if (birthDate == null) {
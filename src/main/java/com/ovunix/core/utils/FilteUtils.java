@@ -4,7 +4,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 public class FilteUtils {
 
@@ -22,30 +21,6 @@ public class FilteUtils {
         BYTES, KB, MB
     }
 
-    // Expressions régulières pour détecter du SQL
-    private static final Pattern[] SQL_PATTERNS = {
-            Pattern.compile("select\\s.*\\sfrom", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("insert\\sinto", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("update\\s.*\\sset", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("delete\\sfrom", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("drop\\s.*table", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("union\\sselect", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("--"),  // Commentaire SQL
-            Pattern.compile(";.*\\b")  // Point-virgule suivi d'une commande
-    };
-
-    // Expressions régulières pour détecter du JavaScript
-    private static final Pattern[] JS_PATTERNS = {
-            Pattern.compile("<script.*?>.*?</script>", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("javascript:", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("alert\\s*\\(", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("eval\\s*\\(", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("document\\.", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("window\\.", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("onerror\\s*=", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("onclick\\s*=", Pattern.CASE_INSENSITIVE)
-    };
-
     /**
      * Convertit un tableau de bytes en une chaîne encodée en Base64.
      *
@@ -76,19 +51,8 @@ public class FilteUtils {
     public static boolean containsSqlOrJs(String content) {
         if (content == null || content.isEmpty()) return false;
 
-        for (Pattern pattern : SQL_PATTERNS) {
-            if (pattern.matcher(content).find()) {
-                return true;
-            }
-        }
-
-        for (Pattern pattern : JS_PATTERNS) {
-            if (pattern.matcher(content).find()) {
-                return true;
-            }
-        }
-
-        return false;
+        // Les 16 signatures SQL/JS en une seule passe linéaire (voir InjectionScanner)
+        return InjectionScanner.containsInjection(content);
     }
 
     /**
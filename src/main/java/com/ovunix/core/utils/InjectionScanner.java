@@ -0,0 +1,302 @@
+package com.ovunix.core.utils;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.regex.Pattern;
+
+/**
+ * Détection SQL/JavaScript de {@link FilteUtils#containsSqlOrJs(String)} en une seule passe, sans retour arrière.
+ * <p>
+ * Les mots-clés des seize signatures sont reconnus ensemble par un automate d'Aho-Corasick (insensible à la
+ * casse ASCII, comme {@code Pattern.CASE_INSENSITIVE}) ; la structure de chaque expression (espace obligatoire,
+ * {@code .*} limité à la ligne, {@code \s*}, frontière de mot) est suivie par quelques compteurs. Le résultat est
+ * identique à celui des expressions régulières d'origine sur le JDK qui exécute la bibliothèque :
+ * <pre>
+ * select\s.*\sfrom    insert\sinto    update\s.*\sset    delete\sfrom    drop\s.*table    union\sselect
+ * --    ;.*\b    &lt;script.*?&gt;.*?&lt;/script&gt;    javascript:    alert\s*\(    eval\s*\(
+ * document\.    window\.    onerror\s*=    onclick\s*=
+ * </pre>
+ * {@code \s} vaut {@code [ \t\n\x0B\f\r]} et {@code .} exclut les fins de ligne ({@code \n \r U+0085 U+2028 U+2029}).
+ * La frontière de mot {@code \b} dépend du JDK : jusqu'à Java 18, un caractère de mot est une lettre ou un chiffre
+ * Unicode ({@link Character#isLetterOrDigit(int)}) ou {@code _} ; depuis Java 19, seulement {@code [A-Za-z0-9_]}.
+ * Sur les deux, une marque non espaçante qui suit une lettre ou un chiffre Unicode compte comme caractère de mot.
+ * La règle en vigueur est détectée au chargement de la classe, auprès de {@link Pattern} lui-même : sur Java 17,
+ * {@code ";é"} est donc suspect comme avec l'expression régulière, et ne l'est pas sur Java 21.
+ * <p>
+ * {@link Session} permet d'analyser un texte au fil de l'eau (jeton JSON, flux), caractère par caractère.
+ */
+public final class InjectionScanner {
+
+    private static final String[] KEYWORDS = {
+            "select", "from", "insert", "into", "update", "set", "delete", "drop", "table", "union", "--",
+            "<script", "</script>", "javascript:", "alert", "eval", "document.", "window.", "onerror", "onclick"
+    };
+    private static final int SELECT = 0, FROM = 1, INSERT = 2, INTO = 3, UPDATE = 4, SET = 5, DELETE = 6, DROP = 7,
+            TABLE = 8, UNION = 9, DASHES = 10, SCRIPT_OPEN = 11, SCRIPT_CLOSE = 12, JAVASCRIPT = 13, ALERT = 14,
+            EVAL = 15, DOCUMENT = 16, WINDOW = 17, ONERROR = 18, ONCLICK = 19;
+
+    private static final long NONE = Long.MAX_VALUE;
+
+    /** true si {@code \b} de {@link Pattern} suit les lettres et chiffres Unicode (Java 18 et avant). */
+    private static final boolean UNICODE_WORDS = Pattern.compile("\\b").matcher("\u00e9").find();
+
+    /** Transitions de l'automate, par état et caractère ASCII en minuscule. */
+    private static final int[][] DELTA;
+    /** Mots-clés (bits) qui se terminent dans chaque état. */
+    private static final int[] OUTPUT;
+
+    static {
+        int capacity = 1;
+        for (String keyword : KEYWORDS) {
+            capacity += keyword.length();
+        }
+        int[][] trie = new int[capacity][128];
+        int[] output = new int[capacity];
+        int states = 1;
+        for (int k = 0; k < KEYWORDS.length; k++) {
+            int state = 0;
+            for (char c : KEYWORDS[k].toCharArray()) {
+                if (trie[state][c] == 0) {
+                    trie[state][c] = states++;
+                }
+                state = trie[state][c];
+            }
+            output[state] |= 1 << k;
+        }
+
+        // Liens d'échec en largeur : chaque transition manquante suit celle de l'état d'échec
+        int[] fail = new int[states];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < 128; c++) {
+            if (trie[0][c] != 0) {
+                queue.add(trie[0][c]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            output[state] |= output[fail[state]];
+            for (int c = 0; c < 128; c++) {
+                int next = trie[state][c];
+                if (next != 0) {
+                    fail[next] = trie[fail[state]][c];
+                    queue.add(next);
+                } else {
+                    trie[state][c] = trie[fail[state]][c];
+                }
+            }
+        }
+        DELTA = Arrays.copyOf(trie, states);
+        OUTPUT = Arrays.copyOf(output, states);
+    }
+
+    private InjectionScanner() {
+    }
+
+    /**
+     * @return true si le texte contient l'une des seize signatures
+     */
+    public static boolean containsInjection(CharSequence content) {
+        if (content == null || content.isEmpty()) {
+            return false;
+        }
+        Session session = new Session();
+        session.feed(content);
+        return session.matched();
+    }
+
+    /**
+     * Analyse incrémentale d'un texte. Non thread-safe ; réutilisable après {@link #reset()}.
+     */
+    public static final class Session {
+
+        private final long[] lastEnd = new long[KEYWORDS.length];
+        private long position;
+        private int state;
+        private boolean matched;
+        /** Bit k : le caractère k positions en arrière est un {@code \s}. */
+        private long whitespace;
+        private long lastLineTerminator;
+        private long selectArm, selectArmBeforeLine, updateArm, updateArmBeforeLine, dropArm;
+        private long scriptOpen, scriptGt;
+        private boolean semicolon, parenthesisPending, equalsPending;
+        /** Caractère précédent, pour reconstituer un point de code hors BMP (paire de substitution). */
+        private char previous;
+        /** Le texte se termine par une lettre ou un chiffre du plan de base suivi de marques non espaçantes. */
+        private boolean base, baseBeforePrevious;
+
+        public Session() {
+            reset();
+        }
+
+        public void reset() {
+            Arrays.fill(lastEnd, Long.MIN_VALUE);
+            position = 0;
+            state = 0;
+            matched = false;
+            whitespace = 0;
+            lastLineTerminator = -1;
+            selectArm = selectArmBeforeLine = updateArm = updateArmBeforeLine = dropArm = NONE;
+            scriptOpen = scriptGt = -1;
+            semicolon = parenthesisPending = equalsPending = false;
+            previous = 0;
+            base = baseBeforePrevious = false;
+        }
+
+        public boolean matched() {
+            return matched;
+        }
+
+        public Session feed(CharSequence content) {
+            for (int i = 0, n = content.length(); i < n && !matched; i++) {
+                feed(content.charAt(i));
+            }
+            return this;
+        }
+
+        public Session feed(char[] content, int offset, int length) {
+            for (int i = offset, end = offset + length; i < end && !matched; i++) {
+                feed(content[i]);
+            }
+            return this;
+        }
+
+        public Session feed(char c) {
+            if (matched) {
+                return this;
+            }
+            long j = position++;
+            boolean space = c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+            boolean lineTerminator = c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+            boolean word = isWord(c);
+            whitespace = (whitespace << 1) | (space ? 1 : 0);
+
+            if (lineTerminator) {
+                // « .* » ne traverse pas les lignes ; un \s final peut toutefois être cette fin de ligne
+                selectArmBeforeLine = selectArm;
+                updateArmBeforeLine = updateArm;
+                lastLineTerminator = j;
+                selectArm = updateArm = dropArm = NONE;
+                scriptOpen = scriptGt = -1;
+                semicolon = false;
+            }
+
+            // ;.*\b
+            if (semicolon && word) {
+                matched = true;
+                return this;
+            }
+            if (c == ';') {
+                semicolon = true;
+            }
+
+            // alert\s*\(  eval\s*\(  onerror\s*=  onclick\s*=
+            if ((parenthesisPending && c == '(') || (equalsPending && c == '=')) {
+                matched = true;
+                return this;
+            }
+            if (!space) {
+                parenthesisPending = equalsPending = false;
+            }
+
+            if (c == '>' && scriptOpen >= 0 && scriptGt < 0) {
+                scriptGt = j;
+            }
+
+            // Début du « .* » après « select\s », « update\s », « drop\s »
+            if (space) {
+                if (lastEnd[SELECT] == j - 1 && selectArm == NONE) {
+                    selectArm = j + 1;
+                }
+                if (lastEnd[UPDATE] == j - 1 && updateArm == NONE) {
+                    updateArm = j + 1;
+                }
+                if (lastEnd[DROP] == j - 1 && dropArm == NONE) {
+                    dropArm = j + 1;
+                }
+            }
+
+            int lower = c < 128 ? (c >= 'A' && c <= 'Z' ? c + 32 : c) : -1;
+            state = lower < 0 ? 0 : DELTA[state][lower];
+            int output = OUTPUT[state];
+            while (output != 0 && !matched) {
+                int keyword = Integer.numberOfTrailingZeros(output);
+                output &= output - 1;
+                onKeyword(keyword, j);
+                lastEnd[keyword] = j;
+            }
+            return this;
+        }
+
+        /**
+         * Le point de code qui commence (ou se termine) ici est-il un caractère de mot pour {@code \b} ? Comme
+         * {@link Pattern}, une marque non espaçante (Mn) compte aussi quand elle suit, par d'autres marques du plan
+         * de base seulement, une lettre ou un chiffre Unicode.
+         */
+        private boolean isWord(char c) {
+            char before = previous;
+            boolean baseBefore = base;
+            boolean baseBeforePrevious = this.baseBeforePrevious;
+            previous = c;
+            this.baseBeforePrevious = baseBefore;
+            if (c < 128) {
+                boolean letterOrDigit = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+                base = letterOrDigit;
+                return letterOrDigit || c == '_';
+            }
+            if (Character.isSurrogate(c)) {
+                base = false;
+                if (!Character.isLowSurrogate(c) || !Character.isHighSurrogate(before)) {
+                    return false; // une moitié isolée n'est jamais un mot ; une paire est jugée sur sa seconde moitié
+                }
+                int codePoint = Character.toCodePoint(before, c);
+                return (UNICODE_WORDS && Character.isLetterOrDigit(codePoint))
+                        || (Character.getType(codePoint) == Character.NON_SPACING_MARK && baseBeforePrevious);
+            }
+            boolean letterOrDigit = Character.isLetterOrDigit(c);
+            boolean mark = Character.getType(c) == Character.NON_SPACING_MARK;
+            base = letterOrDigit || (mark && baseBefore);
+            return (UNICODE_WORDS && letterOrDigit) || (mark && baseBefore);
+        }
+
+        private void onKeyword(int keyword, long end) {
+            long start = end - KEYWORDS[keyword].length() + 1;
+            switch (keyword) {
+                case SELECT -> matched = spaceAt(start - 1, end) && lastEnd[UNION] == start - 2;
+                case FROM -> matched = (spaceAt(start - 1, end) && lastEnd[DELETE] == start - 2)
+                        || armed(start - 1, end, selectArm, selectArmBeforeLine);
+                case INTO -> matched = spaceAt(start - 1, end) && lastEnd[INSERT] == start - 2;
+                case SET -> matched = armed(start - 1, end, updateArm, updateArmBeforeLine);
+                case TABLE -> matched = dropArm <= start;
+                case DASHES, JAVASCRIPT, DOCUMENT, WINDOW -> matched = true;
+                case SCRIPT_OPEN -> {
+                    if (scriptOpen < 0) {
+                        scriptOpen = end;
+                    }
+                }
+                case SCRIPT_CLOSE -> matched = scriptGt >= 0 && scriptGt < start;
+                case ALERT, EVAL -> parenthesisPending = true;
+                case ONERROR, ONCLICK -> equalsPending = true;
+                default -> {
+                }
+            }
+        }
+
+        /**
+         * {@code keyword\s.*\s} se termine en {@code q} : un début de « .* » au plus en {@code q}, sans fin de ligne
+         * entre les deux (le \s en {@code q} peut lui-même être une fin de ligne).
+         */
+        private boolean armed(long q, long end, long arm, long armBeforeLine) {
+            if (!spaceAt(q, end)) {
+                return false;
+            }
+            long effective = q == lastLineTerminator ? armBeforeLine : arm;
+            return effective <= q;
+        }
+
+        private boolean spaceAt(long index, long current) {
+            long back = current - index;
+            return index >= 0 && back < 64 && ((whitespace >>> back) & 1) != 0;
+        }
+    }
+}
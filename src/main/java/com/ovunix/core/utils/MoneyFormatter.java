@@ -0,0 +1,352 @@
+package com.ovunix.core.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Moteur de formatage et de parsing de montants, immuable et thread-safe.
+ * <p>
+ * Une instance est configurée une seule fois (séparateurs, nombre de décimales) puis réutilisée :
+ * aucun {@code DecimalFormat} n'est construit à l'appel. Les montants sont manipulés en unités
+ * mineures ({@code long}, ex. centimes) ou en {@link BigDecimal}, et l'écriture se fait directement
+ * dans le {@link StringBuilder} ou l'{@link Appendable} fourni par l'appelant.
+ * <p>
+ * Le parsing est l'inverse exact du formatage : {@code parseMinorUnits(format(x)) == x} pour tout {@code long}.
+ */
+public final class MoneyFormatter {
+
+    private static final long[] POW10 = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private static final int MAX_FRACTION_DIGITS = 9;
+
+    /** Format français avec centimes : {@code 1 234 567,89}. */
+    public static final MoneyFormatter FR = new MoneyFormatter(' ', ',', 2, true);
+
+    /** Format français sans centimes : {@code 1 234 568}. */
+    public static final MoneyFormatter FR_ENTIER = new MoneyFormatter(' ', ',', 0, true);
+
+    /** Format anglais avec centimes : {@code 1,234,567.89}. */
+    public static final MoneyFormatter EN = new MoneyFormatter(',', '.', 2, true);
+
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+    private final int fractionDigits;
+    private final boolean grouping;
+
+    private MoneyFormatter(char groupingSeparator, char decimalSeparator, int fractionDigits, boolean grouping) {
+        if (fractionDigits < 0 || fractionDigits > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("Le nombre de décimales doit être compris entre 0 et " + MAX_FRACTION_DIGITS);
+        }
+        if (grouping && groupingSeparator == decimalSeparator) {
+            throw new IllegalArgumentException("Les séparateurs de milliers et de décimales doivent être différents");
+        }
+        this.groupingSeparator = groupingSeparator;
+        this.decimalSeparator = decimalSeparator;
+        this.fractionDigits = fractionDigits;
+        this.grouping = grouping;
+    }
+
+    /**
+     * Crée un moteur avec des séparateurs explicites.
+     *
+     * @param groupingSeparator séparateur de milliers
+     * @param decimalSeparator  séparateur décimal
+     * @param fractionDigits    nombre de décimales (unités mineures), entre 0 et 9
+     */
+    public static MoneyFormatter of(char groupingSeparator, char decimalSeparator, int fractionDigits) {
+        return new MoneyFormatter(groupingSeparator, decimalSeparator, fractionDigits, true);
+    }
+
+    /**
+     * Crée un moteur à partir des symboles d'une locale. Les symboles ne sont lus qu'une fois, à la création.
+     *
+     * @param locale         locale dont on reprend les séparateurs
+     * @param fractionDigits nombre de décimales (unités mineures), entre 0 et 9
+     */
+    public static MoneyFormatter of(Locale locale, int fractionDigits) {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        return new MoneyFormatter(symbols.getGroupingSeparator(), symbols.getDecimalSeparator(), fractionDigits, true);
+    }
+
+    /**
+     * Retourne une copie de ce moteur sans séparateur de milliers.
+     */
+    public MoneyFormatter withoutGrouping() {
+        return new MoneyFormatter(groupingSeparator, decimalSeparator, fractionDigits, false);
+    }
+
+    public int getFractionDigits() {
+        return fractionDigits;
+    }
+
+    // ==================== Formatage ====================
+
+    /**
+     * Formate un montant exprimé en unités mineures (ex. 123456 centimes -> {@code 1 234,56}).
+     */
+    public String format(long minorUnits) {
+        return format(minorUnits, new StringBuilder(24)).toString();
+    }
+
+    /**
+     * Formate un montant {@link BigDecimal}, arrondi au demi pair sur le nombre de décimales du moteur.
+     */
+    public String format(BigDecimal amount) {
+        return format(amount, new StringBuilder(24)).toString();
+    }
+
+    /**
+     * Écrit un montant exprimé en unités mineures à la fin du builder fourni.
+     *
+     * @return le builder passé en paramètre
+     */
+    public StringBuilder format(long minorUnits, StringBuilder out) {
+        try {
+            appendMinorUnits(minorUnits, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // impossible avec un StringBuilder
+        }
+        return out;
+    }
+
+    /**
+     * Écrit un montant {@link BigDecimal} à la fin du builder fourni.
+     *
+     * @return le builder passé en paramètre
+     */
+    public StringBuilder format(BigDecimal amount, StringBuilder out) {
+        try {
+            appendAmount(amount, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /**
+     * Écrit un montant exprimé en unités mineures dans un {@link Appendable} (Writer, CharBuffer...).
+     *
+     * @return l'appendable passé en paramètre
+     */
+    public <A extends Appendable> A formatTo(long minorUnits, A out) throws IOException {
+        appendMinorUnits(minorUnits, out);
+        return out;
+    }
+
+    /**
+     * Écrit un montant {@link BigDecimal} dans un {@link Appendable}.
+     *
+     * @return l'appendable passé en paramètre
+     */
+    public <A extends Appendable> A formatTo(BigDecimal amount, A out) throws IOException {
+        appendAmount(amount, out);
+        return out;
+    }
+
+    private void appendMinorUnits(long minorUnits, Appendable out) throws IOException {
+        if (minorUnits == Long.MIN_VALUE) {
+            // -Long.MIN_VALUE déborde : on passe par la voie BigInteger
+            appendUnscaled(BigInteger.valueOf(minorUnits), out);
+            return;
+        }
+        if (minorUnits < 0) {
+            out.append('-');
+            minorUnits = -minorUnits;
+        }
+        long unit = POW10[fractionDigits];
+        appendGrouped(minorUnits / unit, out);
+        if (fractionDigits > 0) {
+            out.append(decimalSeparator);
+            long fraction = minorUnits % unit;
+            for (int i = fractionDigits - 1; i >= 0; i--) {
+                out.append((char) ('0' + (fraction / POW10[i]) % 10));
+            }
+        }
+    }
+
+    private void appendAmount(BigDecimal amount, Appendable out) throws IOException {
+        if (amount == null) {
+            throw new IllegalArgumentException("Le montant ne peut pas être null");
+        }
+        BigInteger unscaled = amount.setScale(fractionDigits, RoundingMode.HALF_EVEN).unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            appendMinorUnits(unscaled.longValue(), out);
+        } else {
+            appendUnscaled(unscaled, out);
+        }
+    }
+
+    private void appendGrouped(long value, Appendable out) throws IOException {
+        int digits = digitCount(value);
+        for (int i = digits - 1; i >= 0; i--) {
+            out.append((char) ('0' + (value / POW10[i]) % 10));
+            if (grouping && i > 0 && i % 3 == 0) {
+                out.append(groupingSeparator);
+            }
+        }
+    }
+
+    /**
+     * Voie lente pour les montants qui ne tiennent pas dans un {@code long}.
+     */
+    private void appendUnscaled(BigInteger unscaled, Appendable out) throws IOException {
+        if (unscaled.signum() < 0) {
+            out.append('-');
+        }
+        String digits = unscaled.abs().toString();
+        int integerDigits = digits.length() - fractionDigits;
+        if (integerDigits <= 0) {
+            out.append('0');
+        }
+        for (int i = 0; i < integerDigits; i++) {
+            out.append(digits.charAt(i));
+            int remaining = integerDigits - i - 1;
+            if (grouping && remaining > 0 && remaining % 3 == 0) {
+                out.append(groupingSeparator);
+            }
+        }
+        if (fractionDigits > 0) {
+            out.append(decimalSeparator);
+            for (int i = integerDigits; i < 0; i++) {
+                out.append('0');
+            }
+            out.append(digits, Math.max(integerDigits, 0), digits.length());
+        }
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (digits < POW10.length && value >= POW10[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+    // ==================== Parsing ====================
+
+    /**
+     * Convertit un montant formaté en unités mineures, sans allocation.
+     * <p>
+     * Le texte doit suivre exactement le format du moteur : signe {@code -} optionnel, chiffres
+     * éventuellement groupés, puis au plus {@link #getFractionDigits()} décimales.
+     *
+     * @throws IllegalArgumentException si le texte est invalide ou dépasse la capacité d'un {@code long}
+     */
+    public long parseMinorUnits(CharSequence text) {
+        int length = checkNotEmpty(text);
+        int i = 0;
+        boolean negative = text.charAt(0) == '-';
+        if (negative) i++;
+
+        // Accumulation en négatif pour couvrir Long.MIN_VALUE
+        long value = 0;
+        int fraction = -1;
+        boolean hasDigit = false;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (fraction >= 0) {
+                    if (fraction == fractionDigits) throw invalid(text);
+                    fraction++;
+                }
+                value = accumulate(value, c - '0', text);
+                hasDigit = true;
+            } else if (c == decimalSeparator && fraction < 0 && fractionDigits > 0) {
+                fraction = 0;
+            } else if (!(hasDigit && fraction < 0 && isGroupingSeparator(c))) {
+                throw invalid(text);
+            }
+        }
+        if (!hasDigit) throw invalid(text);
+        for (int f = Math.max(fraction, 0); f < fractionDigits; f++) {
+            value = accumulate(value, 0, text);
+        }
+        if (negative) return value;
+        if (value == Long.MIN_VALUE) throw invalid(text);
+        return -value;
+    }
+
+    /**
+     * Convertit un montant formaté en {@link BigDecimal} exact, quel que soit le nombre de décimales saisies.
+     *
+     * @throws IllegalArgumentException si le texte est invalide
+     */
+    public BigDecimal parseBigDecimal(CharSequence text) {
+        int length = checkNotEmpty(text);
+        int i = 0;
+        boolean negative = text.charAt(0) == '-';
+        if (negative) i++;
+
+        long value = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (scale >= 0) scale++;
+                if (digits < 18) {
+                    value = value * 10 + (c - '0');
+                }
+                digits++;
+            } else if (c == decimalSeparator && scale < 0) {
+                scale = 0;
+            } else if (!(digits > 0 && scale < 0 && isGroupingSeparator(c))) {
+                throw invalid(text);
+            }
+        }
+        if (digits == 0) throw invalid(text);
+        if (digits > 18) {
+            return parseLargeBigDecimal(text, negative);
+        }
+        return BigDecimal.valueOf(negative ? -value : value, Math.max(scale, 0));
+    }
+
+    private BigDecimal parseLargeBigDecimal(CharSequence text, boolean negative) {
+        StringBuilder plain = new StringBuilder(text.length());
+        if (negative) plain.append('-');
+        for (int i = negative ? 1 : 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                plain.append(c);
+            } else if (c == decimalSeparator) {
+                plain.append('.');
+            }
+        }
+        return new BigDecimal(plain.toString());
+    }
+
+    private boolean isGroupingSeparator(char c) {
+        if (!grouping) return false;
+        if (c == groupingSeparator) return true;
+        // Les espaces (normal, insécable, fine insécable) sont interchangeables
+        return Character.isSpaceChar(groupingSeparator) && (c == ' ' || c == '\u00A0' || c == '\u202F');
+    }
+
+    private static long accumulate(long negativeValue, int digit, CharSequence text) {
+        if (negativeValue < Long.MIN_VALUE / 10) throw invalid(text);
+        long shifted = negativeValue * 10;
+        if (shifted < Long.MIN_VALUE + digit) throw invalid(text);
+        return shifted - digit;
+    }
+
+    private static int checkNotEmpty(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            throw new IllegalArgumentException("Le montant ne peut pas être vide");
+        }
+        return text.length();
+    }
+
+    private static IllegalArgumentException invalid(CharSequence text) {
+        return new IllegalArgumentException("Format de montant invalide : " + text);
+    }
+}
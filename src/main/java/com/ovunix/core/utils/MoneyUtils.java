@@ -1,5 +1,9 @@
 package com.ovunix.core.utils;
 
+import com.ovunix.core.annotations.Lang;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.ParseException;
@@ -7,8 +11,6 @@ import java.util.Locale;
 
 public class MoneyUtils {
 
-    private static final Locale LOCALE_FR = new Locale("fr", "FR");
-
     // ==================== Formatage ====================
 
     /**
@@ -19,13 +21,29 @@ public class MoneyUtils {
      * @return            Montant formaté en chaîne
      */
     public static String formatToCurrency(double amount, boolean withComma) {
-        DecimalFormatSymbols symbols = new DecimalFormatSymbols(LOCALE_FR);
-        symbols.setGroupingSeparator(' ');
-        symbols.setDecimalSeparator(',');
+        if (Double.isNaN(amount)) return "NaN";
+        if (Double.isInfinite(amount)) return amount > 0 ? "∞" : "-∞";
+
+        // Valeur binaire exacte du double, arrondie au demi pair comme DecimalFormat
+        BigDecimal exact = new BigDecimal(amount);
+        MoneyFormatter formatter = withComma ? MoneyFormatter.FR : MoneyFormatter.FR_ENTIER;
+        StringBuilder result = new StringBuilder(24);
+        if (Math.copySign(1.0, amount) < 0
+                && exact.setScale(formatter.getFractionDigits(), RoundingMode.HALF_EVEN).signum() == 0) {
+            result.append('-'); // DecimalFormat conserve le signe d'un négatif arrondi à zéro
+        }
+        return formatter.format(exact, result).toString();
+    }
 
-        String pattern = withComma ? "#,##0.00" : "#,##0";
-        DecimalFormat formatter = new DecimalFormat(pattern, symbols);
-        return formatter.format(amount);
+    /**
+     * Formate un montant {@link BigDecimal} en chaîne avec ou sans virgule.
+     *
+     * @param amount      Montant à formater
+     * @param withComma   true pour afficher les centimes, false pour un montant entier
+     * @return            Montant formaté en chaîne
+     */
+    public static String formatToCurrency(BigDecimal amount, boolean withComma) {
+        return (withComma ? MoneyFormatter.FR : MoneyFormatter.FR_ENTIER).format(amount);
     }
 
     // ==================== Parsing ====================
@@ -34,131 +52,109 @@ public class MoneyUtils {
      * Convertit une chaîne formatée en montant numérique.
      *
      * @param formattedAmount  Chaîne à convertir
-     * @param withComma        true si la chaîne contient des centimes, false sinon
+     * @param withComma        sans effet : les décimales sont acceptées dans tous les cas, comme avec l'ancien
+     *                         {@code DecimalFormat} dont le parsing ignorait le motif
      * @return                 Montant numérique
      * @throws ParseException  En cas de format incorrect
+     * @deprecated utiliser {@link #parseCurrency(String)}
      */
+    @Deprecated
     public static double parseCurrency(String formattedAmount, boolean withComma) throws ParseException {
+        return parseCurrency(formattedAmount);
+    }
+
+    /**
+     * Convertit une chaîne formatée ({@code 1 234,56}) en montant numérique.
+     * <p>
+     * Comme l'ancien {@code DecimalFormat}, seul le plus long préfixe numérique est lu ({@code 12abc} donne 12).
+     * Pour un parsing strict, voir {@link #parseCurrencyExact(String)}.
+     *
+     * @param formattedAmount  Chaîne à convertir
+     * @return                 Montant numérique
+     * @throws ParseException  si la chaîne ne commence pas par un montant
+     */
+    public static double parseCurrency(String formattedAmount) throws ParseException {
         if (formattedAmount == null || formattedAmount.isEmpty()) {
             throw new IllegalArgumentException("Le montant ne peut pas être vide");
         }
+        try {
+            return MoneyFormatter.FR.parseBigDecimal(formattedAmount).doubleValue();
+        } catch (IllegalArgumentException e) {
+            return parsePrefix(formattedAmount);
+        }
+    }
 
-        DecimalFormatSymbols symbols = new DecimalFormatSymbols(LOCALE_FR);
+    /**
+     * Voie lente des saisies que le parsing strict refuse : même résultat que l'ancienne implémentation.
+     */
+    private static double parsePrefix(String formattedAmount) throws ParseException {
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.FRANCE);
         symbols.setGroupingSeparator(' ');
         symbols.setDecimalSeparator(',');
-
-        String pattern = withComma ? "#,##0.00" : "#,##0";
-        DecimalFormat parser = new DecimalFormat(pattern, symbols);
+        DecimalFormat parser = new DecimalFormat("#,##0.00", symbols);
         parser.setParseBigDecimal(true);
-
         return parser.parse(formattedAmount).doubleValue();
     }
 
-
-    private static final String[] UNITS = {
-            "", "un", "deux", "trois", "quatre", "cinq", "six", "sept", "huit", "neuf",
-            "dix", "onze", "douze", "treize", "quatorze", "quinze", "seize",
-            "dix-sept", "dix-huit", "dix-neuf"
-    };
-
-    private static final String[] TENS = {
-            "", "", "vingt", "trente", "quarante", "cinquante", "soixante",
-            "soixante-dix", "quatre-vingt", "quatre-vingt-dix"
-    };
-
     /**
-     * Convertit un montant numérique en lettres.
-     * @param amount Montant à convertir
-     * @return Chaîne représentant le montant en lettres
+     * Convertit une chaîne formatée en montant {@link BigDecimal} exact. Le texte doit être un montant complet
+     * ({@link MoneyFormatter#parseBigDecimal(CharSequence)}) : aucun caractère superflu n'est ignoré.
+     *
+     * @param formattedAmount  Chaîne à convertir
+     * @return                 Montant exact
+     * @throws ParseException  En cas de format incorrect
      */
-    public static String convertToLetter(double amount) {
-        if (amount < 0) {
-            return "moins " + convertToLetter(-amount);
-        }
-
-        long euros = (long) amount; // Partie entière
-        int cents = (int) Math.round((amount - euros) * 100); // Partie décimale
-
-        StringBuilder result = new StringBuilder();
-
-        // Partie euros
-        if (euros == 0) {
-            result.append("zéro");
-        } else {
-            result.append(convertNumber(euros));
-            result.append(euros > 1 ? " euros" : " euro");
+    public static BigDecimal parseCurrencyExact(String formattedAmount) throws ParseException {
+        if (formattedAmount == null || formattedAmount.isEmpty()) {
+            throw new IllegalArgumentException("Le montant ne peut pas être vide");
         }
-
-        // Partie centimes
-        if (cents > 0) {
-            result.append(" et ").append(convertNumber(cents));
-            result.append(cents > 1 ? " centimes" : " centime");
+        try {
+            return MoneyFormatter.FR.parseBigDecimal(formattedAmount);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(e.getMessage(), 0);
         }
-
-        return result.toString();
     }
 
-    // ==================== Méthode privée ====================
 
-    /**
-     * Convertit un nombre en lettres (sans unité).
-     */
-    private static String convertNumber(long number) {
-        if (number == 0) return "";
-        if (number < 20) return UNITS[(int) number];
-        if (number < 100) return convertTens(number);
-        if (number < 1000) return convertHundreds(number);
-        if (number < 1_000_000) return convertThousands(number);
-        return convertMillions(number);
-    }
+    // ==================== Montant en lettres ====================
 
     /**
-     * Convertit la dizaine.
+     * Convertit un montant numérique en lettres.
+     * @param amount Montant à convertir
+     * @return Chaîne représentant le montant en lettres
      */
-    private static String convertTens(long number) {
-        int tens = (int) (number / 10);
-        int unit = (int) (number % 10);
-
-        if (tens == 7 || tens == 9) {
-            return TENS[tens - 1] + "-" + UNITS[10 + unit];
-        } else {
-            return TENS[tens] + (unit > 0 ? "-" + UNITS[unit] : "");
-        }
+    public static String convertToLetter(double amount) {
+        // BigDecimal.valueOf reprend la représentation décimale du double : 1.005 donne bien 1 euro et 1 centime
+        return convertToLetter(BigDecimal.valueOf(amount), Lang.FR);
     }
 
     /**
-     * Convertit la centaine.
+     * Convertit un montant en lettres dans la langue demandée.
+     * @param amount Montant à convertir
+     * @param lang   Langue de sortie
+     * @return Chaîne représentant le montant en lettres
      */
-    private static String convertHundreds(long number) {
-        int hundreds = (int) (number / 100);
-        long remainder = number % 100;
-
-        String result = (hundreds == 1) ? "cent" : UNITS[hundreds] + " cent";
-        if (remainder > 0) result += " " + convertNumber(remainder);
-        return result;
+    public static String convertToLetter(BigDecimal amount, Lang lang) {
+        return MoneyWords.of(lang).convert(amount);
     }
 
     /**
-     * Convertit les milliers.
+     * Convertit un montant exprimé en centimes en lettres dans la langue demandée.
+     * @param minorUnits Montant en centimes
+     * @param lang       Langue de sortie
+     * @return Chaîne représentant le montant en lettres
      */
-    private static String convertThousands(long number) {
-        long thousands = number / 1000;
-        long remainder = number % 1000;
-
-        String result = (thousands == 1) ? "mille" : convertNumber(thousands) + " mille";
-        if (remainder > 0) result += " " + convertNumber(remainder);
-        return result;
+    public static String convertToLetter(long minorUnits, Lang lang) {
+        return MoneyWords.of(lang).convert(minorUnits);
     }
 
     /**
-     * Convertit les millions.
+     * Convertit un lot de montants en lettres dans la langue demandée.
+     * @param amounts Montants à convertir
+     * @param lang    Langue de sortie
+     * @return Les montants en lettres, dans le même ordre
      */
-    private static String convertMillions(long number) {
-        long millions = number / 1_000_000;
-        long remainder = number % 1_000_000;
-
-        String result = (millions == 1) ? "un million" : convertNumber(millions) + " millions";
-        if (remainder > 0) result += " " + convertNumber(remainder);
-        return result;
+    public static String[] convertToLetters(BigDecimal[] amounts, Lang lang) {
+        return MoneyWords.of(lang).convertAll(amounts);
     }
 }
@@ -0,0 +1,337 @@
+package com.ovunix.core.utils;
+
+import com.ovunix.core.annotations.Lang;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Moteur de conversion de montants en lettres, piloté par des tables et sélectionné par {@link Lang}.
+ * <p>
+ * Les libellés de 0 à 999 sont précalculés une fois par langue ; un montant est ensuite assemblé
+ * en une seule passe, groupe de trois chiffres par groupe de trois chiffres, dans un {@link StringBuilder}
+ * réutilisé par thread. Les instances sont immuables et thread-safe.
+ * <p>
+ * Les parties entières sont supportées jusqu'à 39 chiffres (au-delà de la capacité d'un {@code long}).
+ */
+public final class MoneyWords {
+
+    private static final int MAX_GROUPS = 13;
+
+    private static final long[] POW1000 = {
+            1L, 1_000L, 1_000_000L, 1_000_000_000L, 1_000_000_000_000L,
+            1_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    public static final MoneyWords FR = new MoneyWords(
+            frenchTable(),
+            new String[]{"", "mille", "million", "milliard", "billion", "billiard", "trillion", "trilliard",
+                    "quadrillion", "quadrilliard", "quintillion", "quintilliard", "sextillion"},
+            true, true,
+            "zéro", "moins ", " et ", "euro", "euros", "centime", "centimes");
+
+    public static final MoneyWords EN = new MoneyWords(
+            englishTable(),
+            new String[]{"", "thousand", "million", "billion", "trillion", "quadrillion", "quintillion",
+                    "sextillion", "septillion", "octillion", "nonillion", "decillion", "undecillion"},
+            false, false,
+            "zero", "minus ", " and ", "euro", "euros", "cent", "cents");
+
+    private final String[] below1000;
+    private final String[] scales;
+    private final boolean thousandWithoutOne;
+    private final boolean pluralScales;
+    private final String zero;
+    private final String minus;
+    private final String and;
+    private final String unit;
+    private final String units;
+    private final String cent;
+    private final String cents;
+
+    private MoneyWords(String[] below1000, String[] scales, boolean thousandWithoutOne, boolean pluralScales,
+                       String zero, String minus, String and,
+                       String unit, String units, String cent, String cents) {
+        this.below1000 = below1000;
+        this.scales = scales;
+        this.thousandWithoutOne = thousandWithoutOne;
+        this.pluralScales = pluralScales;
+        this.zero = zero;
+        this.minus = minus;
+        this.and = and;
+        this.unit = unit;
+        this.units = units;
+        this.cent = cent;
+        this.cents = cents;
+    }
+
+    /**
+     * Retourne le moteur correspondant à la langue demandée.
+     */
+    public static MoneyWords of(Lang lang) {
+        if (lang == null) {
+            throw new IllegalArgumentException("La langue ne peut pas être null");
+        }
+        return switch (lang) {
+            case FR -> FR;
+            case EN -> EN;
+        };
+    }
+
+    // ==================== Nombres ====================
+
+    /**
+     * Convertit un entier en lettres, sans unité monétaire.
+     */
+    public String toWords(long number) {
+        StringBuilder out = buffer();
+        appendWords(number, out);
+        return out.toString();
+    }
+
+    /**
+     * Écrit un entier en lettres, sans unité monétaire, à la fin du builder fourni.
+     *
+     * @return le builder passé en paramètre
+     */
+    public StringBuilder appendWords(long number, StringBuilder out) {
+        if (number == 0) {
+            return out.append(zero);
+        }
+        if (number == Long.MIN_VALUE) {
+            out.append(minus);
+            appendInteger(BigInteger.valueOf(number).negate(), out);
+            return out;
+        }
+        if (number < 0) {
+            out.append(minus);
+            number = -number;
+        }
+        appendInteger(number, out);
+        return out;
+    }
+
+    // ==================== Montants ====================
+
+    /**
+     * Convertit un montant en lettres, centimes arrondis au demi supérieur.
+     */
+    public String convert(BigDecimal amount) {
+        StringBuilder out = buffer();
+        appendAmount(amount, out);
+        return out.toString();
+    }
+
+    /**
+     * Convertit un montant exprimé en centimes en lettres.
+     */
+    public String convert(long minorUnits) {
+        StringBuilder out = buffer();
+        appendAmount(minorUnits, out);
+        return out.toString();
+    }
+
+    /**
+     * Écrit un montant en lettres à la fin du builder fourni.
+     *
+     * @return le builder passé en paramètre
+     */
+    public StringBuilder appendAmount(BigDecimal amount, StringBuilder out) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Le montant ne peut pas être null");
+        }
+        BigDecimal rounded = amount.setScale(2, RoundingMode.HALF_UP);
+        BigInteger unscaled = rounded.unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            return appendAmount(unscaled.longValue(), out);
+        }
+
+        if (rounded.signum() < 0) {
+            out.append(minus);
+        }
+        BigInteger[] parts = unscaled.abs().divideAndRemainder(BigInteger.valueOf(100));
+        appendInteger(parts[0], out);
+        out.append(' ').append(units);
+        appendCents(parts[1].intValue(), out);
+        return out;
+    }
+
+    /**
+     * Écrit un montant exprimé en centimes en lettres à la fin du builder fourni.
+     *
+     * @return le builder passé en paramètre
+     */
+    public StringBuilder appendAmount(long minorUnits, StringBuilder out) {
+        if (minorUnits < 0) {
+            out.append(minus);
+        }
+        // Division sur la valeur signée pour rester valide avec Long.MIN_VALUE
+        long whole = Math.abs(minorUnits / 100);
+        int fraction = (int) Math.abs(minorUnits % 100);
+
+        if (whole == 0) {
+            out.append(zero);
+        } else {
+            appendInteger(whole, out);
+            out.append(' ').append(whole > 1 ? units : unit);
+        }
+        appendCents(fraction, out);
+        return out;
+    }
+
+    /**
+     * Convertit un lot de montants en lettres.
+     */
+    public String[] convertAll(BigDecimal[] amounts) {
+        String[] results = new String[amounts.length];
+        StringBuilder out = BUFFER.get();
+        for (int i = 0; i < amounts.length; i++) {
+            out.setLength(0);
+            results[i] = appendAmount(amounts[i], out).toString();
+        }
+        return results;
+    }
+
+    /**
+     * Convertit un lot de montants exprimés en centimes en lettres.
+     */
+    public String[] convertAll(long[] minorUnits) {
+        String[] results = new String[minorUnits.length];
+        StringBuilder out = BUFFER.get();
+        for (int i = 0; i < minorUnits.length; i++) {
+            out.setLength(0);
+            results[i] = appendAmount(minorUnits[i], out).toString();
+        }
+        return results;
+    }
+
+    // ==================== Assemblage ====================
+
+    private void appendCents(int fraction, StringBuilder out) {
+        if (fraction > 0) {
+            out.append(and).append(below1000[fraction]).append(' ').append(fraction > 1 ? cents : cent);
+        }
+    }
+
+    private void appendInteger(long number, StringBuilder out) {
+        boolean first = true;
+        for (int scale = POW1000.length - 1; scale >= 0; scale--) {
+            int group = (int) ((number / POW1000[scale]) % 1000);
+            if (group != 0) {
+                first = appendGroup(group, scale, first, out);
+            }
+        }
+    }
+
+    private void appendInteger(BigInteger number, StringBuilder out) {
+        String digits = number.toString();
+        int groups = (digits.length() + 2) / 3;
+        if (groups > MAX_GROUPS) {
+            throw new IllegalArgumentException("Montant trop grand pour être converti en lettres : " + number);
+        }
+        boolean first = true;
+        int end = digits.length() - (groups - 1) * 3;
+        int start = 0;
+        for (int scale = groups - 1; scale >= 0; scale--) {
+            int group = 0;
+            for (int i = start; i < end; i++) {
+                group = group * 10 + (digits.charAt(i) - '0');
+            }
+            if (group != 0) {
+                first = appendGroup(group, scale, first, out);
+            }
+            start = end;
+            end += 3;
+        }
+    }
+
+    private boolean appendGroup(int group, int scale, boolean first, StringBuilder out) {
+        if (!first) {
+            out.append(' ');
+        }
+        if (scale == 0) {
+            out.append(below1000[group]);
+        } else if (scale == 1 && group == 1 && thousandWithoutOne) {
+            out.append(scales[1]);
+        } else {
+            out.append(below1000[group]).append(' ').append(scales[scale]);
+            if (pluralScales && scale > 1 && group > 1) {
+                out.append('s');
+            }
+        }
+        return false;
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        return out;
+    }
+
+    // ==================== Tables ====================
+
+    private static String[] frenchTable() {
+        String[] units = {
+                "", "un", "deux", "trois", "quatre", "cinq", "six", "sept", "huit", "neuf",
+                "dix", "onze", "douze", "treize", "quatorze", "quinze", "seize",
+                "dix-sept", "dix-huit", "dix-neuf"
+        };
+        String[] tens = {
+                "", "", "vingt", "trente", "quarante", "cinquante", "soixante",
+                "soixante-dix", "quatre-vingt", "quatre-vingt-dix"
+        };
+
+        String[] table = new String[1000];
+        for (int n = 0; n < 1000; n++) {
+            int hundreds = n / 100;
+            int rest = n % 100;
+            String restWords;
+            if (rest < 20) {
+                restWords = units[rest];
+            } else {
+                int ten = rest / 10;
+                int unit = rest % 10;
+                restWords = (ten == 7 || ten == 9)
+                        ? tens[ten - 1] + "-" + units[10 + unit]
+                        : tens[ten] + (unit > 0 ? "-" + units[unit] : "");
+            }
+            if (hundreds == 0) {
+                table[n] = restWords;
+            } else {
+                String head = hundreds == 1 ? "cent" : units[hundreds] + " cent";
+                table[n] = rest == 0 ? head : head + " " + restWords;
+            }
+        }
+        return table;
+    }
+
+    private static String[] englishTable() {
+        String[] units = {
+                "", "one", "two", "three", "four", "five", "six", "seven", "eight", "nine",
+                "ten", "eleven", "twelve", "thirteen", "fourteen", "fifteen", "sixteen",
+                "seventeen", "eighteen", "nineteen"
+        };
+        String[] tens = {
+                "", "", "twenty", "thirty", "forty", "fifty", "sixty", "seventy", "eighty", "ninety"
+        };
+
+        String[] table = new String[1000];
+        for (int n = 0; n < 1000; n++) {
+            int hundreds = n / 100;
+            int rest = n % 100;
+            String restWords = rest < 20
+                    ? units[rest]
+                    : tens[rest / 10] + (rest % 10 > 0 ? "-" + units[rest % 10] : "");
+            if (hundreds == 0) {
+                table[n] = restWords;
+            } else {
+                String head = units[hundreds] + " hundred";
+                table[n] = rest == 0 ? head : head + " " + restWords;
+            }
+        }
+        return table;
+    }
+}
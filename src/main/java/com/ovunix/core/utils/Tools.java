@@ -2,10 +2,24 @@ package com.ovunix.core.utils;
 
 import java.text.Normalizer;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 public class Tools {
 
-    private static final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+    private static final Pattern DIACRITICAL_MARKS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+
+    /** Fin (exclue) des blocs Latin-1 et Latin étendu-A couverts par la table de repli. */
+    private static final char FOLD_LIMIT = '\u0180';
+
+    /** Marqueur de la table : caractère non couvert, passage par la normalisation complète. */
+    private static final char NO_FOLD = '\uFFFF';
+
+    /**
+     * Table de repli des accents, calculée au chargement avec la même normalisation NFD que la voie lente
+     * afin de produire exactement le même résultat.
+     */
+    private static final char[] FOLD = buildFoldTable();
+
     public static String formatPrenom(String prenom) {
         if (prenom == null || prenom.isEmpty()) {
             return prenom;
@@ -13,21 +27,142 @@ public class Tools {
         return prenom.substring(0, 1).toUpperCase() + prenom.substring(1).toLowerCase();
     }
 
+    /**
+     * Vérifie qu'une adresse respecte {@code ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$},
+     * par un parcours unique des caractères, sans expression régulière.
+     */
     public static boolean isValidEmail(String email) {
         if (email == null || email.isEmpty()) {
             return false;
         }
-        return Pattern.matches(EMAIL_REGEX, email);
+        int length = email.length();
+        int at = -1;
+        int lastDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (at >= 0) return false;
+                at = i;
+            } else if (at < 0) {
+                if (!isLocalPartChar(c)) return false;
+            } else if (c == '.') {
+                lastDot = i;
+            } else if (!isAsciiLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        // Partie locale non vide, domaine non vide avant le dernier point, extension d'au moins 2 lettres
+        if (at < 1 || lastDot < at + 2 || length - lastDot - 1 < 2) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isAsciiLetter(email.charAt(i))) return false;
+        }
+        return true;
     }
 
     public static String removeAccents(String input) {
         if (input == null) {
             return null;
         }
+        int length = input.length();
+        int i = 0;
+        while (i < length && input.charAt(i) < 0x80) {
+            i++;
+        }
+        if (i == length) {
+            return input; // ASCII : rien à retirer
+        }
+
+        char[] folded = null;
+        int size = i;
+        for (; i < length; i++) {
+            char c = input.charAt(i);
+            char f;
+            if (c < FOLD_LIMIT) {
+                f = FOLD[c];
+                if (f == NO_FOLD) return removeAccentsSlow(input);
+            } else if (c >= '\u0300' && c <= '\u036F') {
+                f = NO_FOLD; // diacritique combinant : supprimé
+            } else {
+                return removeAccentsSlow(input);
+            }
+
+            if (f != c && folded == null) {
+                folded = new char[length];
+                input.getChars(0, i, folded, 0);
+            }
+            if (folded != null && f != NO_FOLD) {
+                folded[size] = f;
+            }
+            if (f != NO_FOLD) {
+                size++;
+            }
+        }
+        return folded == null ? input : new String(folded, 0, size);
+    }
+
+    /**
+     * Retire les accents d'un lot de chaînes. Les valeurs null restent null.
+     */
+    public static String[] removeAccentsAll(String[] inputs) {
+        String[] results = new String[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            results[i] = removeAccents(inputs[i]);
+        }
+        return results;
+    }
+
+    /**
+     * Retire les accents de chaque élément d'un flux.
+     */
+    public static Stream<String> removeAccentsAll(Stream<String> inputs) {
+        return inputs.map(Tools::removeAccents);
+    }
+
+    /**
+     * Valide un lot d'adresses email.
+     */
+    public static boolean[] areValidEmails(String[] emails) {
+        boolean[] results = new boolean[emails.length];
+        for (int i = 0; i < emails.length; i++) {
+            results[i] = isValidEmail(emails[i]);
+        }
+        return results;
+    }
+
+    /**
+     * Ne conserve que les adresses email valides d'un flux.
+     */
+    public static Stream<String> filterValidEmails(Stream<String> emails) {
+        return emails.filter(Tools::isValidEmail);
+    }
+
+    private static String removeAccentsSlow(String input) {
         // Normalisation de la chaîne en Forme NFD (Normalization Form Decomposition)
         String normalized = Normalizer.normalize(input, Normalizer.Form.NFD);
         // Suppression des caractères diacritiques
-        Pattern pattern = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
-        return pattern.matcher(normalized).replaceAll("");
+        return DIACRITICAL_MARKS.matcher(normalized).replaceAll("");
+    }
+
+    private static char[] buildFoldTable() {
+        char[] table = new char[FOLD_LIMIT];
+        for (char c = 0; c < FOLD_LIMIT; c++) {
+            String folded = removeAccentsSlow(String.valueOf(c));
+            table[c] = folded.length() == 1 ? folded.charAt(0) : NO_FOLD;
+        }
+        return table;
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
 }
@@ -1,15 +1,21 @@
 package com.ovunix.core.utils;
 
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class UniqueNumberGenerator {
 
+    private static final AtomicLong LAST = new AtomicLong();
+
+    /**
+     * Horodatage en millisecondes suivi de trois chiffres aléatoires (16 chiffres). Les valeurs sont strictement
+     * croissantes dans la JVM : deux appels simultanés (même milliseconde, même tirage) ne renvoient jamais le même
+     * identifiant. Au-delà de quelques centaines d'appels par milliseconde, les valeurs prennent de l'avance sur
+     * l'horloge ; l'unicité n'est pas garantie entre deux JVM.
+     */
     public static String generateTimestamp() {
-        long timestamp = Instant.now().toEpochMilli();
-        int randomPart = ThreadLocalRandom.current().nextInt(100, 1000);
-        return String.valueOf(timestamp) + randomPart;
+        long candidate = Instant.now().toEpochMilli() * 1000 + ThreadLocalRandom.current().nextInt(100, 1000);
+        return String.valueOf(LAST.accumulateAndGet(candidate, (last, next) -> Math.max(last + 1, next)));
     }
 }
@@ -0,0 +1,53 @@
+package com.ovunix.core.cache;
+
+import com.ovunix.core.dto.RequestFilter;
+import com.ovunix.core.dto.RequestFilterKey;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountCacheTest {
+
+    private static RequestFilterKey key(int page) {
+        RequestFilter filter = new RequestFilter();
+        filter.setPage(page);
+        filter.setSize(10);
+        filter.setSortBy("id");
+        return RequestFilterKey.of(filter);
+    }
+
+    @Test
+    void evictsTheLeastRecentlyReadEntry() {
+        CountCache cache = new CountCache(2, Duration.ofMinutes(1));
+        cache.put(key(0), 1, 10);
+        cache.put(key(1), 1, 11);
+        assertThat(cache.get(key(0), 1)).isEqualTo(10);
+
+        cache.put(key(2), 1, 12);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(key(1), 1)).isNull();
+        assertThat(cache.get(key(0), 1)).isEqualTo(10);
+        assertThat(cache.get(key(2), 1)).isEqualTo(12);
+    }
+
+    @Test
+    void entryFromAnOlderGenerationIsNotServed() {
+        CountCache cache = new CountCache(10, Duration.ofMinutes(1));
+        cache.put(key(0), 1, 10);
+
+        assertThat(cache.get(key(0), 2)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void expiredEntryIsNotServed() throws InterruptedException {
+        CountCache cache = new CountCache(10, Duration.ofMillis(1));
+        cache.put(key(0), 1, 10);
+        Thread.sleep(5);
+
+        assertThat(cache.get(key(0), 1)).isNull();
+    }
+}
@@ -0,0 +1,54 @@
+package com.ovunix.core.cache;
+
+import com.ovunix.core.dto.RequestFilterKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCacheTest {
+
+    /** DTO mutable minimal. */
+    private static final class Row {
+        String label;
+
+        Row(String label) {
+            this.label = label;
+        }
+    }
+
+    private static List<Row> deepCopy(List<Row> rows) {
+        List<Row> copies = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            copies.add(new Row(row.label));
+        }
+        return copies;
+    }
+
+    @Test
+    void callersNeverShareCachedRows() {
+        QueryCache cache = new QueryCache(100);
+        List<Row> loaded = new ArrayList<>(List.of(new Row("a")));
+
+        cache.put(RequestFilterKey.UNFILTERED, 1, loaded, QueryCacheTest::deepCopy);
+        loaded.get(0).label = "changed by the loader";
+
+        List<Row> first = cache.get(RequestFilterKey.UNFILTERED, 1, QueryCacheTest::deepCopy);
+        first.get(0).label = "changed by a reader";
+        List<Row> second = cache.get(RequestFilterKey.UNFILTERED, 1, QueryCacheTest::deepCopy);
+
+        assertThat(second).extracting(row -> row.label).containsExactly("a");
+        assertThat(second.get(0)).isNotSameAs(first.get(0));
+    }
+
+    @Test
+    void entryFromAnOlderGenerationIsNotServed() {
+        QueryCache cache = new QueryCache(100);
+        cache.put(RequestFilterKey.UNFILTERED, 1, List.of(new Row("a")), QueryCacheTest::deepCopy);
+
+        assertThat(cache.<Row>get(RequestFilterKey.UNFILTERED, 2, QueryCacheTest::deepCopy)).isNull();
+        assertThat(cache.getWeight()).isZero();
+    }
+}
@@ -0,0 +1,59 @@
+package com.ovunix.core.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    @Test
+    void aloneLeaderKeepsTheOriginal() {
+        SingleFlight<String, List<String>> flight = new SingleFlight<>(Duration.ofSeconds(1));
+        List<String> loaded = new ArrayList<>(List.of("a"));
+
+        List<String> result = flight.execute("k", 0, () -> loaded, ArrayList::new);
+
+        assertThat(result).isSameAs(loaded);
+    }
+
+    @Test
+    void everyCallerGetsItsOwnInstanceWhenShared() throws Exception {
+        SingleFlight<String, List<String>> flight = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> loaded = new ArrayList<>(List.of("a"));
+
+        CompletableFuture<List<String>> leader = CompletableFuture.supplyAsync(() -> flight.execute("k", 0, () -> {
+            loading.countDown();
+            await(release);
+            return loaded;
+        }, ArrayList::new));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<String>> follower = CompletableFuture.supplyAsync(
+                () -> flight.execute("k", 0, () -> List.of("own"), ArrayList::new));
+        // Laisse au suiveur le temps de rejoindre le chargement en cours
+        Thread.sleep(200);
+        release.countDown();
+
+        List<String> leaderResult = leader.get(5, TimeUnit.SECONDS);
+        List<String> followerResult = follower.get(5, TimeUnit.SECONDS);
+        assertThat(followerResult).containsExactly("a");
+        assertThat(leaderResult).containsExactly("a").isNotSameAs(loaded).isNotSameAs(followerResult);
+        assertThat(flight.getExecutionCount()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
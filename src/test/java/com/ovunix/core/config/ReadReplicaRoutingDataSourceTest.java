@@ -0,0 +1,109 @@
+package com.ovunix.core.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routage vers deux bases H2 distinctes, chacune marquée par le contenu de sa table {@code node}.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private JdbcTemplate jdbc;
+    private TransactionTemplate writes;
+    private TransactionTemplate reads;
+
+    @BeforeEach
+    void setUp() {
+        int id = SEQUENCE.incrementAndGet();
+        DataSource primary = database("primary" + id, "primary");
+        DataSource replica = database("replica" + id, "replica");
+        DataSource routing = ReadReplicaRoutingDataSource.of(primary, replica, Duration.ofMillis(300));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbc = new JdbcTemplate(routing);
+        writes = new TransactionTemplate(transactionManager);
+        reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+        ReadReplicaRoutingDataSource.clearLastWrite();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadReplicaRoutingDataSource.clearLastWrite();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(readNode()).isEqualTo("replica");
+        assertThat(writeNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void readAfterWriteGoesToPrimaryUntilStickinessExpires() throws InterruptedException {
+        writes.executeWithoutResult(status -> {
+            jdbc.update("update node set label = label");
+            ReadReplicaRoutingDataSource.markWrite();
+        });
+
+        assertThat(readNode()).isEqualTo("primary");
+
+        Thread.sleep(400);
+        assertThat(readNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void writeIsStickyOnlyOnceCommitted() {
+        writes.executeWithoutResult(status -> {
+            ReadReplicaRoutingDataSource.markWrite();
+            status.setRollbackOnly();
+        });
+
+        assertThat(readNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void stickinessFollowsPropagatedTasksOnly() {
+        writes.executeWithoutResult(status -> ReadReplicaRoutingDataSource.markWrite());
+
+        String plain = CompletableFuture.supplyAsync(this::readNode).join();
+        String propagated = CompletableFuture.supplyAsync(ReadReplicaRoutingDataSource.propagate(this::readNode)).join();
+
+        assertThat(plain).isEqualTo("replica");
+        assertThat(propagated).isEqualTo("primary");
+    }
+
+    private String writeNode() {
+        return writes.execute(status -> node());
+    }
+
+    private String readNode() {
+        return reads.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbc.queryForObject("select label from node", String.class);
+    }
+
+    private static DataSource database(String name, String label) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table node (label varchar(16))");
+        jdbc.update("insert into node values (?)", label);
+        return dataSource;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ovunix.core.contract;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InjectionScreeningFilterTest {
+
+    private final InjectionScreeningFilter filter = new InjectionScreeningFilter();
+
+    @Test
+    void cleanBodyIsReplayedToTheController() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = run("{\"name\":\"caf\\u00e9\"}", chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertThat(new String(forwarded.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).contains("name");
+    }
+
+    @Test
+    void suspiciousFieldNameIsRejected() throws Exception {
+        MockHttpServletResponse response = run("{\"<script>x</script>\":1}", new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("field name");
+    }
+
+    @Test
+    void malformedBodyIsRejectedWithTheErrorsFoundBeforeTheDefect() throws Exception {
+        MockHttpServletResponse response = run("{\"q\":\"union select 1\", \"r\": }", new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("/q").contains("Malformed JSON body");
+    }
+
+    @Test
+    void readListenerIsNotifiedOfTheBufferedBody() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        run("{\"a\":1}", chain);
+        ServletInputStream input = chain.getRequest().getInputStream();
+        List<String> events = new ArrayList<>();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("data:" + input.readAllBytes().length);
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("data:7", "done");
+    }
+
+    private MockHttpServletResponse run(String json, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/items");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(json.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ovunix.core.dto;
+
+import com.ovunix.core.annotations.Operation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestFilterKeyTest {
+
+    @Test
+    void valuesThatPrintAlikeDoNotCollide() {
+        RequestFilterKey single = key(new Criteria("code", List.of("a, java.lang.String:b"), Operation.IN));
+        RequestFilterKey pair = key(new Criteria("code", List.of("a", "b"), Operation.IN));
+
+        assertThat(single).isNotEqualTo(pair);
+    }
+
+    @Test
+    void separatorsInsideValuesDoNotCollide() {
+        RequestFilterKey inKey = key(new Criteria("a|EQUAL|x", "y", Operation.EQUAL));
+        RequestFilterKey inValue = key(new Criteria("a", "x|EQUAL|y", Operation.EQUAL));
+
+        assertThat(inKey).isNotEqualTo(inValue);
+    }
+
+    @Test
+    void valueTypeIsPartOfTheKey() {
+        assertThat(key(new Criteria("id", 1, Operation.EQUAL))).isNotEqualTo(key(new Criteria("id", "1", Operation.EQUAL)));
+        assertThat(key(new Criteria("id", null, Operation.EQUAL))).isNotEqualTo(key(new Criteria("id", "null", Operation.EQUAL)));
+    }
+
+    @Test
+    void orderOfCriteriaAndOfInValuesIsIgnored() {
+        RequestFilter first = new RequestFilter();
+        first.getAndCriterias().add(new Criteria("a", 1, Operation.EQUAL));
+        first.getAndCriterias().add(new Criteria("b", List.of("x", "y"), Operation.IN));
+        RequestFilter second = new RequestFilter();
+        second.getAndCriterias().add(new Criteria("b", Set.of("y", "x"), Operation.IN));
+        second.getAndCriterias().add(new Criteria("a", 1, Operation.EQUAL));
+
+        assertThat(RequestFilterKey.of(first)).isEqualTo(RequestFilterKey.of(second));
+        assertThat(RequestFilterKey.of(first).hashCode()).isEqualTo(RequestFilterKey.of(second).hashCode());
+    }
+
+    @Test
+    void duplicatesAreCounted() {
+        assertThat(key(new Criteria("a", List.of("x", "x", "y"), Operation.IN)))
+                .isNotEqualTo(key(new Criteria("a", List.of("x", "y", "y"), Operation.IN)));
+    }
+
+    private static RequestFilterKey key(Criteria criteria) {
+        RequestFilter filter = new RequestFilter();
+        filter.getAndCriterias().add(criteria);
+        return RequestFilterKey.forCount(filter);
+    }
+}
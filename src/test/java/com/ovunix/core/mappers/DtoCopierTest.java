@@ -0,0 +1,78 @@
+package com.ovunix.core.mappers;
+
+import com.ovunix.core.dto.AbstractDto;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DtoCopierTest {
+
+    @Test
+    void copiesEveryFieldDeeply() {
+        OrderDto order = new OrderDto();
+        order.setReference("CMD-1");
+        order.setComputedTotal(42L);
+        order.setCreatedAt(new Date(0));
+        order.getTags().put("canal", "web");
+        LineDto line = new LineDto();
+        line.setProduct("stylo");
+        line.setOrder(order);
+        order.getLines().add(line);
+
+        OrderDto copy = DtoCopier.copy(order);
+
+        assertThat(copy).isNotSameAs(order);
+        assertThat(copy.getComputedTotal()).isEqualTo(42L);
+        assertThat(copy.getLines()).isInstanceOf(ArrayList.class).isNotSameAs(order.getLines());
+        assertThat(copy.getLines().get(0)).isNotSameAs(line);
+        assertThat(copy.getLines().get(0).getOrder()).isSameAs(copy);
+        assertThat(copy.getTags()).isInstanceOf(HashMap.class).containsEntry("canal", "web").isNotSameAs(order.getTags());
+        assertThat(copy.getCreatedAt()).isEqualTo(order.getCreatedAt()).isNotSameAs(order.getCreatedAt());
+
+        copy.getLines().get(0).setProduct("gomme");
+        copy.getTags().clear();
+        assertThat(line.getProduct()).isEqualTo("stylo");
+        assertThat(order.getTags()).hasSize(1);
+    }
+
+    @Test
+    void recordsAndImmutableListsAreRebuilt() {
+        Summary summary = new Summary("CMD-1", List.of(new Amount(10)));
+
+        Summary copy = DtoCopier.copy(summary);
+
+        assertThat(copy).isEqualTo(summary).isNotSameAs(summary);
+        assertThat(copy.amounts()).isNotSameAs(summary.amounts());
+    }
+
+    @Data
+    public static class OrderDto implements AbstractDto {
+        private String reference;
+        private Long computedTotal;
+        private Date createdAt;
+        private ArrayList<LineDto> lines = new ArrayList<>();
+        private HashMap<String, String> tags = new HashMap<>();
+    }
+
+    @Data
+    public static class LineDto implements AbstractDto {
+        private String product;
+        @ToString.Exclude
+        @EqualsAndHashCode.Exclude
+        private OrderDto order;
+    }
+
+    record Summary(String reference, List<Amount> amounts) implements AbstractDto {
+    }
+
+    record Amount(long cents) {
+    }
+}
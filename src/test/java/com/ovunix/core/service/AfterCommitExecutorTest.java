@@ -0,0 +1,73 @@
+package com.ovunix.core.service;
+
+import com.ovunix.core.annotations.AfterCommitMode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AfterCommitExecutorTest {
+
+    @Test
+    void fullQueueRejectsWithoutBlocking() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AfterCommitExecutor executor = new AfterCommitExecutor(AfterCommitMode.PARALLEL, 1, 1);
+        try {
+            assertThat(executor.submit(null, () -> {
+                running.countDown();
+                await(release);
+            })).isTrue();
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(executor.submit(null, () -> { })).isTrue();
+
+            assertThat(executor.submit(null, () -> { })).isFalse();
+            assertThat(executor.getRejectedCount()).isEqualTo(1);
+            assertThat(executor.getPendingCount()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            executor.close(Duration.ofSeconds(5));
+        }
+        assertThat(executor.getCompletedCount()).isEqualTo(2);
+        assertThat(executor.getPendingCount()).isZero();
+    }
+
+    @Test
+    void closeDrainsOrderedQueuesThenRejects() {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        AfterCommitExecutor executor = new AfterCommitExecutor(AfterCommitMode.ORDERED_PER_ENTITY, 4);
+        for (int i = 0; i < 200; i++) {
+            int value = i;
+            executor.submit("id-" + (i % 2), () -> order.add(value));
+        }
+
+        executor.close(Duration.ofSeconds(10));
+
+        assertThat(executor.getPendingCount()).isZero();
+        assertThat(order).hasSize(200);
+        assertThat(order.stream().filter(v -> v % 2 == 0).toList())
+                .isEqualTo(IntStream.range(0, 100).map(v -> v * 2).boxed().toList());
+        assertThat(order.stream().filter(v -> v % 2 == 1).toList())
+                .isEqualTo(IntStream.range(0, 100).map(v -> v * 2 + 1).boxed().toList());
+
+        assertThat(executor.submit("id-0", () -> order.add(-1))).isFalse();
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+        assertThat(executor.getPendingCount()).isZero();
+        assertThat(order).doesNotContain(-1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
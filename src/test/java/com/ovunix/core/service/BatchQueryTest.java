@@ -0,0 +1,213 @@
+package com.ovunix.core.service;
+
+import com.ovunix.core.annotations.Operation;
+import com.ovunix.core.config.KeyGenerator;
+import com.ovunix.core.domain.Persistable;
+import com.ovunix.core.dto.AbstractDto;
+import com.ovunix.core.dto.BatchResult;
+import com.ovunix.core.dto.CountDto;
+import com.ovunix.core.dto.Criteria;
+import com.ovunix.core.dto.RequestFilter;
+import com.ovunix.core.mappers.AbstractMappers;
+import com.ovunix.core.repository.AbstractRepository;
+import com.ovunix.core.validators.Validator;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Appels groupés {@code filterMany} et {@code countMany} : concurrence bornée pour tout le service, et requête
+ * de comptage commune réservée aux appels hors transaction.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BatchQueryTest {
+
+    @Autowired
+    private RatingService ratingService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (ratingService.count().total() == 0) {
+            for (int stars = 1; stars <= 4; stars++) {
+                RatingDto rating = new RatingDto();
+                rating.setStars(stars);
+                ratingService.save(rating);
+            }
+        }
+    }
+
+    @Test
+    void concurrencyIsBoundedAcrossCalls() {
+        ratingService.setBatchConcurrency(2);
+        List<RequestFilter> filters = List.of(atLeast(1), atLeast(2), atLeast(3));
+
+        CompletableFuture<List<BatchResult<List<RatingDto>>>> first =
+                CompletableFuture.supplyAsync(() -> ratingService.filterMany(filters));
+        CompletableFuture<List<BatchResult<List<RatingDto>>>> second =
+                CompletableFuture.supplyAsync(() -> ratingService.filterMany(filters));
+
+        for (List<BatchResult<List<RatingDto>>> results : List.of(first.join(), second.join())) {
+            assertThat(results).extracting(result -> result.value().size()).containsExactly(4, 3, 2);
+        }
+        assertThat(ratingService.maxActiveMappings()).isEqualTo(2);
+    }
+
+    @Test
+    void countManyCombinesOutsideATransaction() {
+        statistics.clear();
+        List<BatchResult<CountDto>> counts = ratingService.countMany(List.of(atLeast(1), atLeast(2), atLeast(3)));
+
+        assertThat(counts).extracting(result -> result.value().total()).containsExactly(4L, 3L, 2L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void countManyCountsSeparatelyInACallerTransaction() {
+        statistics.clear();
+        List<BatchResult<CountDto>> counts = new TransactionTemplate(transactionManager).execute(status -> {
+            List<BatchResult<CountDto>> results = ratingService.countMany(List.of(atLeast(1), atLeast(2), atLeast(3)));
+            assertThat(status.isRollbackOnly()).isFalse();
+            return results;
+        });
+
+        assertThat(counts).extracting(result -> result.value().total()).containsExactly(4L, 3L, 2L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private static RequestFilter atLeast(int stars) {
+        RequestFilter filter = new RequestFilter();
+        filter.setSize(20);
+        filter.setSortAsc(true);
+        filter.setSortBy("stars");
+        filter.getAndCriterias().add(new Criteria("stars", IntStream.rangeClosed(stars, 4).boxed().toList(), Operation.IN));
+        return filter;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = BatchQueryTest.class)
+    @EnableJpaRepositories(basePackageClasses = BatchQueryTest.class, considerNestedRepositories = true)
+    static class Config {
+
+        @Bean
+        GeneratorServiceImpl generatorService() {
+            return new GeneratorServiceImpl();
+        }
+
+        @Bean
+        RatingService ratingService(GeneratorServiceImpl generator, RatingRepository repository) {
+            return new RatingService(generator, repository);
+        }
+    }
+
+    @Data
+    @Entity
+    @Table(name = "batch_rating")
+    public static class Rating implements Persistable<String> {
+        @Id
+        @KeyGenerator
+        private String id;
+        private int stars;
+    }
+
+    @Data
+    public static class RatingDto implements AbstractDto {
+        private String id;
+        private int stars;
+    }
+
+    public interface RatingRepository extends AbstractRepository<Rating, String> {
+    }
+
+    static class RatingMapper implements AbstractMappers<RatingDto, Rating> {
+        @Override
+        public Rating toEntity(RatingDto dto) {
+            Rating rating = new Rating();
+            rating.setId(dto.getId());
+            rating.setStars(dto.getStars());
+            return rating;
+        }
+
+        @Override
+        public RatingDto toDto(Rating rating) {
+            RatingDto dto = new RatingDto();
+            dto.setId(rating.getId());
+            dto.setStars(rating.getStars());
+            return dto;
+        }
+    }
+
+    static class RatingService extends AbstractServiceImpl<RatingDto, String> {
+        private final RatingRepository repository;
+        private final AtomicInteger activeMappings = new AtomicInteger();
+        private final AtomicInteger maxActiveMappings = new AtomicInteger();
+
+        RatingService(GeneratorServiceImpl generator, RatingRepository repository) {
+            super(Map.of(), Map.of(), generator);
+            this.repository = repository;
+        }
+
+        @Override
+        public AbstractRepository abstractRepository() {
+            return repository;
+        }
+
+        @Override
+        public AbstractMappers abstractMappers() {
+            return new RatingMapper();
+        }
+
+        @Override
+        public void setValidator(Validator validator) {
+        }
+
+        public int maxActiveMappings() {
+            return maxActiveMappings.get();
+        }
+
+        @Override
+        protected List<RatingDto> determineMappings(List<Persistable> entities) {
+            maxActiveMappings.accumulateAndGet(activeMappings.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            activeMappings.decrementAndGet();
+            return super.determineMappings(entities);
+        }
+    }
+}
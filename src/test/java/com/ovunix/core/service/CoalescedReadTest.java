@@ -0,0 +1,273 @@
+package com.ovunix.core.service;
+
+import com.ovunix.core.cache.EntityGeneration;
+import com.ovunix.core.cache.QueryCache;
+import com.ovunix.core.config.KeyGenerator;
+import com.ovunix.core.domain.Persistable;
+import com.ovunix.core.dto.AbstractDto;
+import com.ovunix.core.dto.RequestFilter;
+import com.ovunix.core.mappers.AbstractMappers;
+import com.ovunix.core.repository.AbstractRepository;
+import com.ovunix.core.validators.Validator;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lectures servies par le cache ou le regroupement, hors transaction de test : connexions prises d'après les
+ * statistiques Hibernate sur H2.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CoalescedReadTest {
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        bookService.setQueryCache(new QueryCache(1_000));
+        if (bookService.count().total() == 0) {
+            for (String title : List.of("Candide", "Zadig", "Micromégas")) {
+                BookDto book = new BookDto();
+                book.setTitle(title);
+                bookService.save(book);
+            }
+        }
+    }
+
+    @Test
+    void cacheHitTakesNoConnection() {
+        RequestFilter filter = firstPage();
+        statistics.clear();
+        List<BookDto> loaded = bookService.filter(filter);
+        assertThat(statistics.getConnectCount()).isPositive();
+
+        statistics.clear();
+        List<BookDto> cached = bookService.filter(filter);
+
+        assertThat(cached).hasSameSizeAs(loaded);
+        assertThat(statistics.getConnectCount()).isZero();
+    }
+
+    @Test
+    void enrichedFieldSurvivesCacheHit() {
+        RequestFilter filter = firstPage();
+        List<BookDto> loaded = bookService.filter(filter);
+        List<BookDto> cached = bookService.filter(filter);
+
+        assertThat(cached).extracting(BookDto::getLabel).containsExactly("« Candide »", "« Micromégas »", "« Zadig »");
+        assertThat(cached).extracting(BookDto::getLabel).isEqualTo(loaded.stream().map(BookDto::getLabel).toList());
+        assertThat(cached.get(0)).isNotSameAs(loaded.get(0));
+    }
+
+    @Test
+    void enrichedFieldSurvivesForFollower() throws Exception {
+        bookService.setQueryCache(null);
+        bookService.setSingleFlight(Duration.ofSeconds(10));
+        RequestFilter filter = firstPage();
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch gate = new CountDownLatch(1);
+            bookService.holdMappings(entered, gate);
+            Future<List<BookDto>> leader = callers.submit(() -> bookService.filter(filter));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<List<BookDto>> follower = callers.submit(() -> bookService.filter(firstPage()));
+            Thread.sleep(200);
+            gate.countDown();
+
+            List<BookDto> leaderRows = leader.get(5, TimeUnit.SECONDS);
+            List<BookDto> followerRows = follower.get(5, TimeUnit.SECONDS);
+
+            // Un seul mapping par ligne : le suiveur a reçu une copie du résultat du meneur
+            assertThat(bookService.mappingCount()).isEqualTo(3);
+            assertThat(followerRows).extracting(BookDto::getLabel)
+                    .containsExactly("« Candide »", "« Micromégas »", "« Zadig »");
+            assertThat(leaderRows).extracting(BookDto::getLabel)
+                    .containsExactly("« Candide »", "« Micromégas »", "« Zadig »");
+            assertThat(followerRows.get(0)).isNotSameAs(leaderRows.get(0));
+        } finally {
+            bookService.holdMappings(null, null);
+            bookService.setSingleFlight(null);
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void pageReadDuringAWriteIsNotCached() throws Exception {
+        QueryCache cache = new QueryCache(1_000);
+        bookService.setQueryCache(cache);
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch gate = new CountDownLatch(1);
+            bookService.holdMappings(entered, gate);
+            Future<List<BookDto>> reader = callers.submit(() -> bookService.filter(firstPage()));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            // Écriture concurrente pendant la lecture
+            EntityGeneration.of(Book.class).invalidate();
+            gate.countDown();
+
+            assertThat(reader.get(5, TimeUnit.SECONDS)).hasSize(3);
+            assertThat(cache.getWeight()).isZero();
+        } finally {
+            bookService.holdMappings(null, null);
+            callers.shutdownNow();
+        }
+    }
+
+    private static RequestFilter firstPage() {
+        RequestFilter filter = new RequestFilter();
+        filter.setSize(10);
+        filter.setSortBy("title");
+        filter.setSortAsc(true);
+        return filter;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = CoalescedReadTest.class)
+    @EnableJpaRepositories(basePackageClasses = CoalescedReadTest.class, considerNestedRepositories = true)
+    static class Config {
+
+        @Bean
+        GeneratorServiceImpl generatorService() {
+            return new GeneratorServiceImpl();
+        }
+
+        @Bean
+        BookService bookService(GeneratorServiceImpl generator, BookRepository repository) {
+            return new BookService(generator, repository);
+        }
+    }
+
+    @Data
+    @Entity
+    @Table(name = "read_book")
+    public static class Book implements Persistable<String> {
+        @Id
+        @KeyGenerator
+        private String id;
+        private String title;
+    }
+
+    @Data
+    public static class BookDto implements AbstractDto {
+        private String id;
+        private String title;
+        /**
+         * Absent de l'entité : renseigné par {@link BookService#determineMapping(Persistable)}.
+         */
+        private String label;
+    }
+
+    public interface BookRepository extends AbstractRepository<Book, String> {
+    }
+
+    static class BookMapper implements AbstractMappers<BookDto, Book> {
+        @Override
+        public Book toEntity(BookDto dto) {
+            Book book = new Book();
+            book.setId(dto.getId());
+            book.setTitle(dto.getTitle());
+            return book;
+        }
+
+        @Override
+        public BookDto toDto(Book book) {
+            BookDto dto = new BookDto();
+            dto.setId(book.getId());
+            dto.setTitle(book.getTitle());
+            return dto;
+        }
+    }
+
+    static class BookService extends AbstractServiceImpl<BookDto, String> {
+        private final BookRepository repository;
+        private final AtomicInteger mappings = new AtomicInteger();
+        private volatile CountDownLatch entered;
+        private volatile CountDownLatch gate;
+
+        BookService(GeneratorServiceImpl generator, BookRepository repository) {
+            super(Map.of(), Map.of(), generator);
+            this.repository = repository;
+        }
+
+        @Override
+        public AbstractRepository abstractRepository() {
+            return repository;
+        }
+
+        @Override
+        public AbstractMappers abstractMappers() {
+            return new BookMapper();
+        }
+
+        @Override
+        public void setValidator(Validator validator) {
+        }
+
+        /**
+         * Bloque chaque mapping sur {@code gate} (après avoir signalé {@code entered}) et remet le compteur à zéro.
+         */
+        public void holdMappings(CountDownLatch entered, CountDownLatch gate) {
+            mappings.set(0);
+            this.entered = entered;
+            this.gate = gate;
+        }
+
+        public int mappingCount() {
+            return mappings.get();
+        }
+
+        @Override
+        protected AbstractDto determineMapping(Persistable entity) {
+            mappings.incrementAndGet();
+            CountDownLatch held = gate;
+            if (held != null) {
+                entered.countDown();
+                try {
+                    held.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            BookDto dto = new BookMapper().toDto((Book) entity);
+            dto.setLabel("« " + dto.getTitle() + " »");
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package com.ovunix.core.service;
+
+import com.ovunix.core.annotations.Operation;
+import com.ovunix.core.domain.Persistable;
+import com.ovunix.core.dto.AbstractDto;
+import com.ovunix.core.dto.Criteria;
+import com.ovunix.core.dto.RequestFilter;
+import com.ovunix.core.mappers.AbstractMappers;
+import com.ovunix.core.repository.AbstractRepository;
+import com.ovunix.core.validators.Validator;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan de chargement de {@code filter} : nombre d'ordres SQL mesuré par les statistiques Hibernate sur H2, et
+ * jointures générées relevées par un {@link StatementInspector}.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.ovunix.core.service.FetchPlanTest$SqlCapture"
+})
+class FetchPlanTest {
+
+    private static final int BOOKS = 5;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private EditionService editionService;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (int i = 0; i < BOOKS; i++) {
+            Author author = new Author();
+            author.setId("author-" + i);
+            author.setName("auteur " + i);
+            testEntityManager.persist(author);
+            Book book = new Book();
+            book.setId("book-" + i);
+            book.setTitle("titre " + i);
+            book.setAuthor(author);
+            testEntityManager.persist(book);
+            for (int j = 0; j < 2; j++) {
+                Review review = new Review();
+                review.setId("review-" + i + "-" + j);
+                review.setStars(j + 3);
+                review.setBook(book);
+                testEntityManager.persist(review);
+            }
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void fetchPathsRemoveTheNPlusOne() {
+        statistics.clear();
+        List<BookDto> lazy = bookService.filter(bookFilter());
+        long lazyStatements = statistics.getPrepareStatementCount();
+        testEntityManager.clear();
+
+        RequestFilter filter = bookFilter();
+        filter.setFetchPaths(List.of("author", "reviews"));
+        statistics.clear();
+        List<BookDto> planned = bookService.filter(filter);
+
+        // Sans plan : la page, puis un auteur et une collection d'avis par ligne
+        assertThat(lazyStatements).isEqualTo(1 + 2 * BOOKS);
+        // Avec plan : la page jointe aux auteurs, puis une requête pour les avis de toute la page
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(planned).hasSize(BOOKS).isEqualTo(lazy);
+        assertThat(planned.get(0).getAuthorName()).isEqualTo("auteur 0");
+        assertThat(planned.get(0).getReviewCount()).isEqualTo(2);
+    }
+
+    @Test
+    void criterionOnAFetchedAssociationReusesItsJoin() {
+        RequestFilter filter = bookFilter();
+        filter.setFetchPaths(List.of("author"));
+        filter.getAndCriterias().add(new Criteria("author.name", "auteur 3", Operation.EQUAL));
+        filter.getOrCriterias().add(new Criteria("author.id", "author-3", Operation.EQUAL));
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Book> query = criteriaBuilder.createQuery(Book.class);
+        Root<Book> root = query.from(Book.class);
+        bookService.buildSpecification(filter).toPredicate((Root) root, query, criteriaBuilder);
+
+        // Les deux critères portent sur la jointure FETCH : aucune jointure supplémentaire
+        assertThat(root.getFetches()).hasSize(1);
+        assertThat(root.getJoins()).isEmpty();
+        assertThat(bookService.filter(filter)).extracting(BookDto::getId).containsExactly("book-3");
+    }
+
+    @Test
+    void criteriaOnTheSameAssociationShareAJoin() {
+        RequestFilter filter = bookFilter();
+        filter.getAndCriterias().add(new Criteria("author.name", "auteur 3", Operation.EQUAL));
+        filter.getOrCriterias().add(new Criteria("author.id", "author-3", Operation.EQUAL));
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Book> root = query.from(Book.class);
+        bookService.buildSpecification(filter).toPredicate((Root) root, query, criteriaBuilder);
+
+        assertThat(root.getFetches()).isEmpty();
+        assertThat(root.getJoins()).hasSize(1);
+    }
+
+    @Test
+    void criteriaOnACollectionKeepOneJoinEach() {
+        RequestFilter filter = bookFilter();
+        filter.getAndCriterias().add(new Criteria("reviews.stars", 3, Operation.EQUAL));
+        filter.getAndCriterias().add(new Criteria("reviews.stars", 4, Operation.EQUAL));
+        SqlCapture.STATEMENTS.clear();
+
+        List<BookDto> books = bookService.filter(filter);
+
+        // Chaque livre a un avis à 3 et un autre à 4 : deux éléments distincts de la collection
+        assertThat(books).hasSize(BOOKS);
+        assertThat(joins(SqlCapture.STATEMENTS.get(0))).isEqualTo(2);
+    }
+
+    @Test
+    void collectionFetchWorksWithIdClass() {
+        for (int i = 1; i <= 3; i++) {
+            Edition edition = new Edition();
+            edition.setIsbn("isbn");
+            edition.setNumber(i);
+            testEntityManager.persist(edition);
+            EditionNote note = new EditionNote();
+            note.setId("note-" + i);
+            note.setEdition(edition);
+            testEntityManager.persist(note);
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        RequestFilter filter = new RequestFilter();
+        filter.setSize(20);
+        filter.setSortAsc(true);
+        filter.setSortBy("number");
+        filter.setFetchPaths(List.of("notes"));
+        statistics.clear();
+        List<EditionDto> editions = editionService.filter(filter);
+
+        assertThat(editions).extracting(EditionDto::getNoteCount).containsExactly(1, 1, 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private static RequestFilter bookFilter() {
+        RequestFilter filter = new RequestFilter();
+        filter.setSize(20);
+        filter.setSortAsc(true);
+        filter.setSortBy("id");
+        return filter;
+    }
+
+    private static int joins(String sql) {
+        Matcher matcher = Pattern.compile("\\bjoin\\b").matcher(sql.toLowerCase(Locale.ROOT));
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = FetchPlanTest.class)
+    @EnableJpaRepositories(basePackageClasses = FetchPlanTest.class, considerNestedRepositories = true)
+    static class Config {
+
+        @Bean
+        GeneratorServiceImpl generatorService() {
+            return new GeneratorServiceImpl();
+        }
+
+        @Bean
+        BookService bookService(GeneratorServiceImpl generator, BookRepository repository) {
+            return new BookService(generator, repository);
+        }
+
+        @Bean
+        EditionService editionService(GeneratorServiceImpl generator, EditionRepository repository) {
+            return new EditionService(generator, repository);
+        }
+    }
+
+    @Getter
+    @Setter
+    @Entity
+    @Table(name = "fetch_plan_author")
+    public static class Author implements Persistable<String> {
+        @Id
+        private String id;
+        private String name;
+    }
+
+    @Getter
+    @Setter
+    @Entity
+    @Table(name = "fetch_plan_book")
+    public static class Book implements Persistable<String> {
+        @Id
+        private String id;
+        private String title;
+        @ManyToOne(fetch = FetchType.LAZY)
+        private Author author;
+        @OneToMany(mappedBy = "book")
+        private List<Review> reviews = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    @Entity
+    @Table(name = "fetch_plan_review")
+    public static class Review implements Persistable<String> {
+        @Id
+        private String id;
+        private int stars;
+        @ManyToOne(fetch = FetchType.LAZY)
+        private Book book;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EditionId implements Serializable {
+        private String isbn;
+        private int number;
+    }
+
+    @Getter
+    @Setter
+    @Entity
+    @IdClass(EditionId.class)
+    @Table(name = "fetch_plan_edition")
+    public static class Edition implements Persistable<EditionId> {
+        @Id
+        private String isbn;
+        @Id
+        private int number;
+        @OneToMany(mappedBy = "edition")
+        private List<EditionNote> notes = new ArrayList<>();
+
+        @Override
+        public EditionId getId() {
+            return new EditionId(isbn, number);
+        }
+
+        @Override
+        public void setId(EditionId id) {
+            this.isbn = id.getIsbn();
+            this.number = id.getNumber();
+        }
+    }
+
+    @Getter
+    @Setter
+    @Entity
+    @Table(name = "fetch_plan_edition_note")
+    public static class EditionNote implements Persistable<String> {
+        @Id
+        private String id;
+        @ManyToOne(fetch = FetchType.LAZY)
+        private Edition edition;
+    }
+
+    @Data
+    public static class BookDto implements AbstractDto {
+        private String id;
+        private String title;
+        private String authorName;
+        private int reviewCount;
+    }
+
+    @Data
+    public static class EditionDto implements AbstractDto {
+        private String isbn;
+        private int number;
+        private int noteCount;
+    }
+
+    public interface BookRepository extends AbstractRepository<Book, String> {
+    }
+
+    public interface EditionRepository extends AbstractRepository<Edition, EditionId> {
+    }
+
+    static class BookMapper implements AbstractMappers<BookDto, Book> {
+        @Override
+        public Book toEntity(BookDto dto) {
+            Book book = new Book();
+            book.setId(dto.getId());
+            book.setTitle(dto.getTitle());
+            return book;
+        }
+
+        @Override
+        public BookDto toDto(Book book) {
+            BookDto dto = new BookDto();
+            dto.setId(book.getId());
+            dto.setTitle(book.getTitle());
+            dto.setAuthorName(book.getAuthor().getName());
+            dto.setReviewCount(book.getReviews().size());
+            return dto;
+        }
+    }
+
+    static class EditionMapper implements AbstractMappers<EditionDto, Edition> {
+        @Override
+        public Edition toEntity(EditionDto dto) {
+            Edition edition = new Edition();
+            edition.setIsbn(dto.getIsbn());
+            edition.setNumber(dto.getNumber());
+            return edition;
+        }
+
+        @Override
+        public EditionDto toDto(Edition edition) {
+            EditionDto dto = new EditionDto();
+            dto.setIsbn(edition.getIsbn());
+            dto.setNumber(edition.getNumber());
+            dto.setNoteCount(edition.getNotes().size());
+            return dto;
+        }
+    }
+
+    static class BookService extends AbstractServiceImpl<BookDto, String> {
+        private final BookRepository repository;
+
+        BookService(GeneratorServiceImpl generator, BookRepository repository) {
+            super(Map.of(), Map.of(), generator);
+            this.repository = repository;
+        }
+
+        @Override
+        public AbstractRepository abstractRepository() {
+            return repository;
+        }
+
+        @Override
+        public AbstractMappers abstractMappers() {
+            return new BookMapper();
+        }
+
+        @Override
+        public void setValidator(Validator validator) {
+        }
+    }
+
+    static class EditionService extends AbstractServiceImpl<EditionDto, EditionId> {
+        private final EditionRepository repository;
+
+        EditionService(GeneratorServiceImpl generator, EditionRepository repository) {
+            super(Map.of(), Map.of(), generator);
+            this.repository = repository;
+        }
+
+        @Override
+        public AbstractRepository abstractRepository() {
+            return repository;
+        }
+
+        @Override
+        public AbstractMappers abstractMappers() {
+            return new EditionMapper();
+        }
+
+        @Override
+        public void setValidator(Validator validator) {
+        }
+    }
+}
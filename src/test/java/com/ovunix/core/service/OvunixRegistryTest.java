@@ -0,0 +1,170 @@
+package com.ovunix.core.service;
+
+import com.ovunix.core.config.KeyGenerator;
+import com.ovunix.core.domain.Persistable;
+import com.ovunix.core.dto.AbstractDto;
+import com.ovunix.core.dto.validation.ValidationRule;
+import com.ovunix.core.mappers.AbstractMappers;
+import com.ovunix.core.repository.AbstractRepository;
+import com.ovunix.core.validators.Validator;
+import lombok.Data;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OvunixRegistryTest {
+
+    static class ItemDto implements AbstractDto {
+    }
+
+    static class OrderDto implements AbstractDto {
+    }
+
+    static class ItemValidator implements Validator<ItemDto> {
+        @Override
+        public List<ValidationRule> getValidationRules() {
+            return List.of();
+        }
+    }
+
+    static class OrderValidator implements Validator<OrderDto> {
+        @Override
+        public List<ValidationRule> getValidationRules() {
+            return List.of();
+        }
+    }
+
+    @Test
+    void duplicatesAreLeftToTheBeanNameWithoutFailingStartup() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean("itemValidator", ItemValidator.class);
+            context.registerBean("legacyItemValidator", ItemValidator.class);
+            context.registerBean("orderValidator", OrderValidator.class);
+            context.registerBean(OvunixRegistry.class);
+            context.refresh();
+
+            OvunixRegistry registry = context.getBean(OvunixRegistry.class);
+            assertThat(registry.validator(ItemDto.class)).isNull();
+            assertThat(registry.validator(OrderDto.class)).isSameAs(context.getBean("orderValidator"));
+        }
+    }
+
+    @Test
+    void serviceResolvesValidatorByTypeWhateverItsBeanName() {
+        try (GenericApplicationContext context = context(OrderService.class, () -> new OrderService(false))) {
+            context.registerBean("orderRules", OrderValidator.class);
+            context.refresh();
+
+            OrderService service = context.getBean(OrderService.class);
+            assertThat(service.getValidator(OrderDto.class)).isSameAs(context.getBean("orderRules"));
+        }
+    }
+
+    @Test
+    void missingRequiredValidatorFailsStartup() {
+        GenericApplicationContext context = context(OrderService.class, () -> new OrderService(true));
+
+        assertThatThrownBy(context::refresh)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("orderService")
+                .hasMessageContaining("Validator<OrderDto>");
+    }
+
+    @Test
+    void unusableKeyFieldFailsStartup() {
+        GenericApplicationContext context = context(LegacyService.class, LegacyService::new);
+
+        assertThatThrownBy(context::refresh)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("legacyService")
+                .hasMessageContaining("Legacy.number");
+    }
+
+    private static <S extends AbstractServiceImpl<?, ?>> GenericApplicationContext context(Class<S> type,
+                                                                                         Supplier<S> service) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(AutowiredAnnotationBeanPostProcessor.class);
+        context.registerBean(GeneratorServiceImpl.class);
+        context.registerBean(OvunixRegistry.class);
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:registry");
+        context.registerBean("transactionManager", DataSourceTransactionManager.class,
+                () -> new DataSourceTransactionManager(dataSource));
+        String name = Character.toLowerCase(type.getSimpleName().charAt(0)) + type.getSimpleName().substring(1);
+        context.registerBean(name, type, service);
+        return context;
+    }
+
+    @Data
+    public static class Order implements Persistable<String> {
+        @KeyGenerator
+        private String id;
+    }
+
+    @Data
+    public static class Legacy implements Persistable<String> {
+        private String id;
+        @KeyGenerator
+        private Long number;
+    }
+
+    static class LegacyDto implements AbstractDto {
+    }
+
+    static class OrderService extends TestService<OrderDto> {
+        private final boolean requiresValidator;
+
+        OrderService(boolean requiresValidator) {
+            super(Order.class);
+            this.requiresValidator = requiresValidator;
+        }
+
+        @Override
+        protected boolean requiresValidator() {
+            return requiresValidator;
+        }
+    }
+
+    static class LegacyService extends TestService<LegacyDto> {
+        LegacyService() {
+            super(Legacy.class);
+        }
+    }
+
+    abstract static class TestService<D extends AbstractDto> extends AbstractServiceImpl<D, String> {
+        private final Class<?> entityClass;
+
+        TestService(Class<?> entityClass) {
+            super(Map.of(), Map.of(), new GeneratorServiceImpl());
+            this.entityClass = entityClass;
+        }
+
+        @Override
+        public AbstractRepository abstractRepository() {
+            return null;
+        }
+
+        @Override
+        public AbstractMappers abstractMappers() {
+            return null;
+        }
+
+        @Override
+        protected Class<?> entityClass() {
+            return entityClass;
+        }
+
+        @Override
+        public void setValidator(Validator validator) {
+        }
+    }
+}
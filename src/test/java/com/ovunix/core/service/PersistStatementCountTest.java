@@ -0,0 +1,275 @@
+package com.ovunix.core.service;
+
+import com.ovunix.core.config.KeyGenerator;
+import com.ovunix.core.domain.Persistable;
+import com.ovunix.core.dto.AbstractDto;
+import com.ovunix.core.mappers.AbstractMappers;
+import com.ovunix.core.repository.AbstractRepository;
+import com.ovunix.core.validators.Validator;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Nombre d'ordres SQL d'une création, mesuré par les statistiques Hibernate sur H2.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PersistStatementCountTest {
+
+    @Autowired
+    private TagService tagService;
+    @Autowired
+    private NoteService noteService;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void creationWithGeneratedIdIsASingleInsert() {
+        statistics.clear();
+
+        TagDto created = tagService.save(tag(null, "java"));
+        testEntityManager.flush();
+
+        assertThat(created.getId()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void creationWithCallerIdStillMerges() {
+        statistics.clear();
+
+        tagService.save(tag("caller-id", "java"));
+        testEntityManager.flush();
+
+        // SELECT du merge, puis INSERT
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    void entityWithAssociationKeepsMergeForDetachedReferences() {
+        TagDto tag = tagService.save(tag(null, "java"));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        NoteDto note = new NoteDto();
+        note.setText("hello");
+        note.setTagId(tag.getId());
+        note.setTagLabel(tag.getLabel());
+        NoteDto created = noteService.save(note);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Note stored = testEntityManager.find(Note.class, created.getId());
+        assertThat(stored.getTag().getId()).isEqualTo(tag.getId());
+    }
+
+    @Test
+    void entityWithAssociationKeepsMergeCascade() {
+        NoteDto note = new NoteDto();
+        note.setText("hello");
+        note.setTagId("new-tag");
+        note.setTagLabel("kotlin");
+        NoteDto created = noteService.save(note);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // persist() ne suit pas la cascade MERGE : l'étiquette nouvelle ne serait pas insérée
+        Note stored = testEntityManager.find(Note.class, created.getId());
+        assertThat(stored.getTag().getLabel()).isEqualTo("kotlin");
+    }
+
+    private static TagDto tag(String id, String label) {
+        TagDto dto = new TagDto();
+        dto.setId(id);
+        dto.setLabel(label);
+        return dto;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = PersistStatementCountTest.class)
+    @EnableJpaRepositories(basePackageClasses = PersistStatementCountTest.class, considerNestedRepositories = true)
+    static class Config {
+
+        @Bean
+        GeneratorServiceImpl generatorService() {
+            return new GeneratorServiceImpl();
+        }
+
+        @Bean
+        TagService tagService(GeneratorServiceImpl generator, TagRepository repository) {
+            return new TagService(generator, repository);
+        }
+
+        @Bean
+        NoteService noteService(GeneratorServiceImpl generator, NoteRepository repository) {
+            return new NoteService(generator, repository);
+        }
+    }
+
+    @Data
+    @Entity
+    @Table(name = "stat_tag")
+    public static class Tag implements Persistable<String> {
+        @Id
+        @KeyGenerator
+        private String id;
+        private String label;
+    }
+
+    @Data
+    @Entity
+    @Table(name = "stat_note")
+    public static class Note implements Persistable<String> {
+        @Id
+        @KeyGenerator
+        private String id;
+        private String text;
+        @ManyToOne(cascade = CascadeType.MERGE)
+        private Tag tag;
+    }
+
+    @Data
+    public static class TagDto implements AbstractDto {
+        private String id;
+        private String label;
+    }
+
+    @Data
+    public static class NoteDto implements AbstractDto {
+        private String id;
+        private String text;
+        private String tagId;
+        private String tagLabel;
+    }
+
+    public interface TagRepository extends AbstractRepository<Tag, String> {
+    }
+
+    public interface NoteRepository extends AbstractRepository<Note, String> {
+    }
+
+    static class TagMapper implements AbstractMappers<TagDto, Tag> {
+        @Override
+        public Tag toEntity(TagDto dto) {
+            Tag tag = new Tag();
+            tag.setId(dto.getId());
+            tag.setLabel(dto.getLabel());
+            return tag;
+        }
+
+        @Override
+        public TagDto toDto(Tag tag) {
+            TagDto dto = new TagDto();
+            dto.setId(tag.getId());
+            dto.setLabel(tag.getLabel());
+            return dto;
+        }
+    }
+
+    static class NoteMapper implements AbstractMappers<NoteDto, Note> {
+        @Override
+        public Note toEntity(NoteDto dto) {
+            Note note = new Note();
+            note.setId(dto.getId());
+            note.setText(dto.getText());
+            if (dto.getTagId() != null) {
+                Tag tag = new Tag();
+                tag.setId(dto.getTagId());
+                tag.setLabel(dto.getTagLabel());
+                note.setTag(tag);
+            }
+            return note;
+        }
+
+        @Override
+        public NoteDto toDto(Note note) {
+            NoteDto dto = new NoteDto();
+            dto.setId(note.getId());
+            dto.setText(note.getText());
+            if (note.getTag() != null) {
+                dto.setTagId(note.getTag().getId());
+                dto.setTagLabel(note.getTag().getLabel());
+            }
+            return dto;
+        }
+    }
+
+    static class TagService extends AbstractServiceImpl<TagDto, String> {
+        private final TagRepository repository;
+
+        TagService(GeneratorServiceImpl generator, TagRepository repository) {
+            super(Map.of(), Map.of(), generator);
+            this.repository = repository;
+        }
+
+        @Override
+        public AbstractRepository abstractRepository() {
+            return repository;
+        }
+
+        @Override
+        public AbstractMappers abstractMappers() {
+            return new TagMapper();
+        }
+
+        @Override
+        public void setValidator(Validator validator) {
+        }
+    }
+
+    static class NoteService extends AbstractServiceImpl<NoteDto, String> {
+        private final NoteRepository repository;
+
+        NoteService(GeneratorServiceImpl generator, NoteRepository repository) {
+            super(Map.of(), Map.of(), generator);
+            this.repository = repository;
+        }
+
+        @Override
+        public AbstractRepository abstractRepository() {
+            return repository;
+        }
+
+        @Override
+        public AbstractMappers abstractMappers() {
+            return new NoteMapper();
+        }
+
+        @Override
+        public void setValidator(Validator validator) {
+        }
+    }
+}
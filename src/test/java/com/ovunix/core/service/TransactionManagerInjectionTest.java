@@ -0,0 +1,146 @@
+package com.ovunix.core.service;
+
+import com.ovunix.core.config.KeyGenerator;
+import com.ovunix.core.domain.Persistable;
+import com.ovunix.core.dto.AbstractDto;
+import com.ovunix.core.mappers.AbstractMappers;
+import com.ovunix.core.repository.AbstractRepository;
+import com.ovunix.core.validators.Validator;
+import lombok.Data;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Injection du gestionnaire de transactions lorsque le contexte en déclare un ou plusieurs.
+ */
+class TransactionManagerInjectionTest {
+
+    @Test
+    void singleTransactionManagerIsInjected() {
+        try (GenericApplicationContext context = context()) {
+            context.registerBean("transactionManager", DataSourceTransactionManager.class, () -> transactionManager("single"));
+            context.refresh();
+
+            assertThat(context.getBean(ItemService.class).transactionManager)
+                    .isSameAs(context.getBean("transactionManager"));
+        }
+    }
+
+    @Test
+    void severalTransactionManagersAreNotGuessed() {
+        try (GenericApplicationContext context = context()) {
+            context.registerBean("ordersTransactionManager", DataSourceTransactionManager.class, () -> transactionManager("orders"));
+            context.registerBean("archiveTransactionManager", DataSourceTransactionManager.class, () -> transactionManager("archive"));
+            context.refresh();
+
+            assertThat(context.getBean(ItemService.class).transactionManager).isNull();
+        }
+    }
+
+    @Test
+    void severalTransactionManagersFailStartup() {
+        GenericApplicationContext context = context();
+        context.registerBean(OvunixRegistry.class);
+        context.registerBean("ordersTransactionManager", DataSourceTransactionManager.class, () -> transactionManager("orders"));
+        context.registerBean("archiveTransactionManager", DataSourceTransactionManager.class, () -> transactionManager("archive"));
+
+        assertThatThrownBy(context::refresh)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("itemService")
+                .hasMessageContaining("setTransactionManager");
+    }
+
+    @Test
+    void explicitTransactionManagerIsKeptAmongSeveral() {
+        DataSourceTransactionManager orders = transactionManager("orders");
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean(AutowiredAnnotationBeanPostProcessor.class);
+            context.registerBean(GeneratorServiceImpl.class);
+            context.registerBean(OvunixRegistry.class);
+            context.registerBean("ordersTransactionManager", DataSourceTransactionManager.class, () -> orders);
+            context.registerBean("archiveTransactionManager", DataSourceTransactionManager.class, () -> transactionManager("archive"));
+            context.registerBean("itemService", ItemService.class, () -> {
+                ItemService service = new ItemService(new GeneratorServiceImpl());
+                service.setTransactionManager(orders);
+                return service;
+            });
+            context.refresh();
+
+            assertThat(context.getBean(ItemService.class).transactionManager).isSameAs(orders);
+        }
+    }
+
+    @Test
+    void writeWithoutTransactionManagerIsRefused() {
+        try (GenericApplicationContext context = context()) {
+            context.registerBean("ordersTransactionManager", DataSourceTransactionManager.class, () -> transactionManager("orders"));
+            context.registerBean("archiveTransactionManager", DataSourceTransactionManager.class, () -> transactionManager("archive"));
+            context.refresh();
+
+            ItemService service = context.getBean(ItemService.class);
+            // Le mapper (null ici) n'est jamais atteint : rien n'est écrit hors transaction
+            assertThatThrownBy(() -> service.save(new ItemDto()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("setTransactionManager");
+            assertThatThrownBy(() -> service.update(new ItemDto()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private static GenericApplicationContext context() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(AutowiredAnnotationBeanPostProcessor.class);
+        context.registerBean(GeneratorServiceImpl.class);
+        context.registerBean("itemService", ItemService.class);
+        return context;
+    }
+
+    private static DataSourceTransactionManager transactionManager(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name);
+        return new DataSourceTransactionManager(dataSource);
+    }
+
+    @Data
+    public static class Item implements Persistable<String> {
+        @KeyGenerator
+        private String id;
+    }
+
+    static class ItemDto implements AbstractDto {
+    }
+
+    static class ItemService extends AbstractServiceImpl<ItemDto, String> {
+
+        ItemService(GeneratorServiceImpl generator) {
+            super(Map.of(), Map.of(), generator);
+        }
+
+        @Override
+        public AbstractRepository abstractRepository() {
+            return null;
+        }
+
+        @Override
+        public AbstractMappers abstractMappers() {
+            return null;
+        }
+
+        @Override
+        protected Class<?> entityClass() {
+            return Item.class;
+        }
+
+        @Override
+        public void setValidator(Validator validator) {
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ovunix.core.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteBehindBufferTest {
+
+    private static final WriteBehindConfig CONFIG = WriteBehindConfig.of(16, 4, Duration.ofHours(1), Duration.ZERO);
+
+    @Test
+    void batchSizeCannotExceedCapacity() {
+        assertThatThrownBy(() -> WriteBehindConfig.of(10, 11, Duration.ofSeconds(1), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void latestValuePerIdIsWritten() throws Exception {
+        List<String> written = new CopyOnWriteArrayList<>();
+        try (WriteBehindBuffer<Long, String> buffer = new WriteBehindBuffer<>("test-flush", CONFIG, written::addAll)) {
+            buffer.offer(1L, "a1");
+            buffer.offer(1L, "a2");
+            buffer.offer(2L, "b1");
+            assertThat(buffer.pendingValue(1L)).isEqualTo("a2");
+
+            buffer.flush();
+        }
+        assertThat(written).containsExactlyInAnyOrder("a2", "b1");
+    }
+
+    @Test
+    void discardDoesNotWaitForTheFlushWritingThatId() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (WriteBehindBuffer<Long, String> buffer = new WriteBehindBuffer<>("test-flush", CONFIG, batch -> {
+            writing.countDown();
+            await(release);
+        })) {
+            buffer.offer(1L, "a");
+            CompletableFuture<Void> flush = CompletableFuture.runAsync(buffer::flush);
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture.runAsync(() -> buffer.discard(1L)).get(1, TimeUnit.SECONDS);
+            assertThat(buffer.pendingValue(1L)).isNull();
+            assertThat(flush).isNotDone();
+
+            release.countDown();
+            flush.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void discardedValueIsNotWritten() throws Exception {
+        List<String> written = new CopyOnWriteArrayList<>();
+        try (WriteBehindBuffer<Long, String> buffer = new WriteBehindBuffer<>("test-flush", CONFIG, written::addAll)) {
+            buffer.offer(1L, "a");
+            buffer.discard(1L);
+            buffer.flush();
+        }
+        assertThat(written).isEmpty();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
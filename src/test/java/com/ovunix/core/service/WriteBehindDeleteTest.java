@@ -0,0 +1,171 @@
+package com.ovunix.core.service;
+
+import com.ovunix.core.config.KeyGenerator;
+import com.ovunix.core.domain.Persistable;
+import com.ovunix.core.dto.AbstractDto;
+import com.ovunix.core.mappers.AbstractMappers;
+import com.ovunix.core.repository.AbstractRepository;
+import com.ovunix.core.validators.Validator;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Suppression d'un identifiant dont la mise à jour write-behind est en cours d'écriture, par un appelant qui tient
+ * déjà le verrou de la ligne : ni attente mutuelle, ni ligne recréée par le vidage.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:write-behind-delete;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WriteBehindDeleteTest {
+
+    @Autowired
+    private NoteService noteService;
+    @Autowired
+    private NoteRepository noteRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void deleteDuringFlushDoesNotWaitNorResurrect() throws Exception {
+        noteService.enableWriteBehind(WriteBehindConfig.of(16, 16, Duration.ofHours(1), Duration.ZERO));
+        NoteDto note = new NoteDto();
+        note.setText("brouillon");
+        NoteDto saved = noteService.save(note);
+        saved.setText("relu");
+        noteService.update(saved);
+        WriteBehindBuffer<Object, NoteDto> buffer = noteService.getWriteBehind();
+
+        long elapsed = new TransactionTemplate(transactionManager).execute(status -> {
+            entityManager.find(Note.class, saved.getId(), LockModeType.PESSIMISTIC_WRITE);
+            CompletableFuture.runAsync(buffer::flush);
+            // La valeur a quitté l'attente : le vidage est en cours, bloqué sur le verrou de la ligne
+            while (buffer.getPendingCount() > 0) {
+                Thread.onSpinWait();
+            }
+            sleep(200);
+            long start = System.nanoTime();
+            noteService.deleteById(saved.getId());
+            return System.nanoTime() - start;
+        });
+
+        assertThat(Duration.ofNanos(elapsed)).isLessThan(Duration.ofSeconds(5));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (buffer.getWrittenCount() + buffer.getFailedCount() == 0 && System.nanoTime() < deadline) {
+            sleep(20);
+        }
+        assertThat(buffer.getFailedCount()).isZero();
+        assertThat(noteRepository.findById(saved.getId())).isEmpty();
+        assertThat(noteService.find(saved.getId())).isEmpty();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = WriteBehindDeleteTest.class)
+    @EnableJpaRepositories(basePackageClasses = WriteBehindDeleteTest.class, considerNestedRepositories = true)
+    static class Config {
+
+        @Bean
+        GeneratorServiceImpl generatorService() {
+            return new GeneratorServiceImpl();
+        }
+
+        @Bean
+        NoteService noteService(GeneratorServiceImpl generator, NoteRepository repository) {
+            return new NoteService(generator, repository);
+        }
+    }
+
+    @Data
+    @Entity
+    @Table(name = "write_behind_note")
+    public static class Note implements Persistable<String> {
+        @Id
+        @KeyGenerator
+        private String id;
+        private String text;
+    }
+
+    @Data
+    public static class NoteDto implements AbstractDto {
+        private String id;
+        private String text;
+    }
+
+    public interface NoteRepository extends AbstractRepository<Note, String> {
+    }
+
+    static class NoteMapper implements AbstractMappers<NoteDto, Note> {
+        @Override
+        public Note toEntity(NoteDto dto) {
+            Note note = new Note();
+            note.setId(dto.getId());
+            note.setText(dto.getText());
+            return note;
+        }
+
+        @Override
+        public NoteDto toDto(Note note) {
+            NoteDto dto = new NoteDto();
+            dto.setId(note.getId());
+            dto.setText(note.getText());
+            return dto;
+        }
+    }
+
+    static class NoteService extends AbstractServiceImpl<NoteDto, String> {
+        private final NoteRepository repository;
+
+        NoteService(GeneratorServiceImpl generator, NoteRepository repository) {
+            super(Map.of(), Map.of(), generator);
+            this.repository = repository;
+        }
+
+        @Override
+        public AbstractRepository abstractRepository() {
+            return repository;
+        }
+
+        @Override
+        public AbstractMappers abstractMappers() {
+            return new NoteMapper();
+        }
+
+        @Override
+        public void setValidator(Validator validator) {
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ovunix.core.utils;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InjectionScannerTest {
+
+    /** Les seize expressions d'origine de {@code FilteUtils}, évaluées par le JDK courant. */
+    private static final Pattern[] PATTERNS = {
+            Pattern.compile("select\\s.*\\sfrom", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("insert\\sinto", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("update\\s.*\\sset", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("delete\\sfrom", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("drop\\s.*table", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("union\\sselect", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("--"),
+            Pattern.compile(";.*\\b"),
+            Pattern.compile("<script.*?>.*?</script>", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("javascript:", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("alert\\s*\\(", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("eval\\s*\\(", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("document\\.", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("window\\.", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("onerror\\s*=", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("onclick\\s*=", Pattern.CASE_INSENSITIVE)
+    };
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "select name from users", "SELECT\t*\nFROM t", "select x\u2028 from", "insert into", "update t set",
+            "delete from", "drop the table", "union select", "a -- b", "<script>x</script>", "<script>\n</script>",
+            "javascript:void", "alert (1)", "eval(", "document.cookie", "window.open", "onerror =", "onclick=",
+            "a;b", "a; ;", "a;\nb", "a;\u00e9", "a;\u00e9\u0301", "a;\u0301", "a;_", "a;\u4e2d", "a;\u0663",
+            "a;\ud835\udc00", "a;\ud83d\ude00", "a;\ud801\udc00\u0301", "a;\u00b2", "a;\ud834\udd67", "a;\udc00\u0301",
+            "plain text", "caf\u00e9", "select", "from select", ""
+    })
+    void agreesWithTheRegularExpressionsOfTheRunningJdk(String value) {
+        boolean expected = false;
+        for (Pattern pattern : PATTERNS) {
+            expected |= pattern.matcher(value).find();
+        }
+        assertThat(InjectionScanner.containsInjection(value)).as(value).isEqualTo(expected);
+    }
+}
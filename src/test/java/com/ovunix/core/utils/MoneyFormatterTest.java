@@ -0,0 +1,117 @@
+package com.ovunix.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyFormatterTest {
+
+    private static final List<MoneyFormatter> FORMATTERS = List.of(
+            MoneyFormatter.FR, MoneyFormatter.FR_ENTIER, MoneyFormatter.EN,
+            MoneyFormatter.FR.withoutGrouping(), MoneyFormatter.of('.', ',', 3));
+
+    private static final long[] MINOR_UNITS = {
+            0, 1, -1, 9, 10, 99, 100, -100, 101, 999, 1_000, -12_345, 123_456_789, -987_654_321_012L,
+            Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1
+    };
+
+    @Test
+    void minorUnitsRoundTrip() {
+        for (MoneyFormatter formatter : FORMATTERS) {
+            for (long value : MINOR_UNITS) {
+                String text = formatter.format(value);
+                assertThat(formatter.parseMinorUnits(text)).as(text).isEqualTo(value);
+                assertThat(formatter.parseBigDecimal(text).movePointRight(formatter.getFractionDigits()).longValueExact())
+                        .as(text).isEqualTo(value);
+            }
+        }
+    }
+
+    @Test
+    void bothSeparatorStyles() {
+        assertThat(MoneyFormatter.FR.format(123_456_789L)).isEqualTo("1 234 567,89");
+        assertThat(MoneyFormatter.EN.format(123_456_789L)).isEqualTo("1,234,567.89");
+        assertThat(MoneyFormatter.FR_ENTIER.format(1_234_568L)).isEqualTo("1 234 568");
+        assertThat(MoneyFormatter.FR.withoutGrouping().format(123_456_789L)).isEqualTo("1234567,89");
+        assertThat(MoneyFormatter.FR.format(-1L)).isEqualTo("-0,01");
+        assertThat(MoneyFormatter.FR.format(0L)).isEqualTo("0,00");
+        assertThat(MoneyFormatter.EN.parseMinorUnits("-1,234.5")).isEqualTo(-123_450L);
+        assertThat(MoneyFormatter.FR.parseMinorUnits("1 234,5")).isEqualTo(123_450L);
+    }
+
+    @Test
+    void bigDecimalsAreRoundedHalfEven() {
+        assertThat(MoneyFormatter.FR.format(new BigDecimal("0.125"))).isEqualTo("0,12");
+        assertThat(MoneyFormatter.FR.format(new BigDecimal("0.135"))).isEqualTo("0,14");
+        assertThat(MoneyFormatter.FR.format(new BigDecimal("-0.125"))).isEqualTo("-0,12");
+        assertThat(MoneyFormatter.FR.format(new BigDecimal("0.1251"))).isEqualTo("0,13");
+        assertThat(MoneyFormatter.FR_ENTIER.format(new BigDecimal("2.5"))).isEqualTo("2");
+        assertThat(MoneyFormatter.FR_ENTIER.format(new BigDecimal("3.5"))).isEqualTo("4");
+        assertThat(MoneyFormatter.FR_ENTIER.format(new BigDecimal("-2.5"))).isEqualTo("-2");
+    }
+
+    @Test
+    void amountsBeyondLongRoundTrip() {
+        for (String amount : List.of("123456789012345678901234.56", "-99999999999999999999.99", "0.00")) {
+            BigDecimal value = new BigDecimal(amount);
+            String text = MoneyFormatter.FR.format(value);
+            assertThat(MoneyFormatter.FR.parseBigDecimal(text)).as(text).isEqualByComparingTo(value);
+        }
+        assertThat(MoneyFormatter.FR.format(new BigDecimal("123456789012345678901234.56")))
+                .isEqualTo("123 456 789 012 345 678 901 234,56");
+        assertThatThrownBy(() -> MoneyFormatter.FR.parseMinorUnits("92 233 720 368 547 758,08"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void strictParsingRejectsTrailingText() {
+        assertThatThrownBy(() -> MoneyFormatter.FR.parseMinorUnits("12abc")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MoneyFormatter.FR.parseMinorUnits("1,2,3")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MoneyFormatter.FR.parseMinorUnits("1,234")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MoneyFormatter.FR.parseMinorUnits("-")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void formatToCurrencyMatchesDecimalFormat() {
+        double[] amounts = {0, -0.0, 0.005, 0.015, -0.004, 1.005, 2.675, 1234.5, -1234.565, 999_999.995, 1e15, -7.0};
+        for (boolean withComma : new boolean[]{true, false}) {
+            DecimalFormat baseline = baseline(withComma);
+            for (double amount : amounts) {
+                assertThat(MoneyUtils.formatToCurrency(amount, withComma)).as("%s %s", amount, withComma)
+                        .isEqualTo(baseline.format(amount));
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void parseCurrencyMatchesDecimalFormat() throws ParseException {
+        for (String text : List.of("1 234,56", "1234,5", "12,345", "-0,50", "1 234", "0", "12,", "12abc", "1,2,3", "1.5")) {
+            double expected = baseline(true).parse(text).doubleValue();
+            assertThat(MoneyUtils.parseCurrency(text)).as(text).isEqualTo(expected);
+            assertThat(MoneyUtils.parseCurrency(text, false)).as(text).isEqualTo(expected);
+        }
+        assertThatThrownBy(() -> MoneyUtils.parseCurrency("abc")).isInstanceOf(ParseException.class);
+        assertThatThrownBy(() -> MoneyUtils.parseCurrencyExact("12abc")).isInstanceOf(ParseException.class);
+    }
+
+    /**
+     * {@code MoneyUtils} avant {@link MoneyFormatter}.
+     */
+    private static DecimalFormat baseline(boolean withComma) {
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.FRANCE);
+        symbols.setGroupingSeparator(' ');
+        symbols.setDecimalSeparator(',');
+        DecimalFormat format = new DecimalFormat(withComma ? "#,##0.00" : "#,##0", symbols);
+        format.setParseBigDecimal(true);
+        return format;
+    }
+}
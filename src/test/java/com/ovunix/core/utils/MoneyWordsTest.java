@@ -0,0 +1,183 @@
+package com.ovunix.core.utils;
+
+import com.ovunix.core.annotations.Lang;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoneyWordsTest {
+
+    @Test
+    void frenchMatchesBaselineBelowOneBillion() {
+        for (long n = 0; n < 1_000_000; n++) {
+            assertThat(MoneyUtils.convertToLetter((double) n)).isEqualTo(Baseline.convertToLetter(n));
+        }
+        for (long n = 1_000_000; n < 1_000_000_000; n += 7_919) {
+            assertThat(MoneyUtils.convertToLetter((double) n)).isEqualTo(Baseline.convertToLetter(n));
+        }
+        for (long euros : new long[]{0, 1, 2, 21, 71, 80, 100, 1_000, 1_001, 2_000_000}) {
+            for (int cents = 0; cents < 100; cents++) {
+                double amount = euros + cents / 100.0;
+                assertThat(MoneyUtils.convertToLetter(amount)).as("%s", amount).isEqualTo(Baseline.convertToLetter(amount));
+                assertThat(MoneyWords.FR.convert(euros * 100 + cents)).isEqualTo(Baseline.convertToLetter(amount));
+            }
+        }
+    }
+
+    @Test
+    void frenchEdgeCases() {
+        MoneyWords fr = MoneyWords.FR;
+        assertThat(fr.toWords(70)).isEqualTo("soixante-dix");
+        assertThat(fr.toWords(71)).isEqualTo("soixante-onze");
+        assertThat(fr.toWords(79)).isEqualTo("soixante-dix-neuf");
+        assertThat(fr.toWords(80)).isEqualTo("quatre-vingt");
+        assertThat(fr.toWords(81)).isEqualTo("quatre-vingt-un");
+        assertThat(fr.toWords(90)).isEqualTo("quatre-vingt-dix");
+        assertThat(fr.toWords(91)).isEqualTo("quatre-vingt-onze");
+        assertThat(fr.toWords(99)).isEqualTo("quatre-vingt-dix-neuf");
+        // Orthographe héritée de l'implémentation d'origine : ni « et un », ni pluriel de cent et quatre-vingt
+        assertThat(fr.toWords(21)).isEqualTo("vingt-un");
+        assertThat(fr.toWords(61)).isEqualTo("soixante-un");
+        assertThat(fr.toWords(200)).isEqualTo("deux cent");
+        assertThat(fr.toWords(280)).isEqualTo("deux cent quatre-vingt");
+        assertThat(fr.toWords(1_000)).isEqualTo("mille");
+        assertThat(fr.toWords(1_001)).isEqualTo("mille un");
+        assertThat(fr.toWords(2_000)).isEqualTo("deux mille");
+        assertThat(fr.toWords(1_000_000)).isEqualTo("un million");
+        assertThat(fr.toWords(2_000_000)).isEqualTo("deux millions");
+        assertThat(fr.toWords(-15)).isEqualTo("moins quinze");
+
+        assertThat(fr.convert(0L)).isEqualTo("zéro");
+        assertThat(fr.convert(1L)).isEqualTo("zéro et un centime");
+        assertThat(fr.convert(2L)).isEqualTo("zéro et deux centimes");
+        assertThat(fr.convert(100L)).isEqualTo("un euro");
+        assertThat(fr.convert(150L)).isEqualTo("un euro et cinquante centimes");
+        assertThat(fr.convert(-225L)).isEqualTo("moins deux euros et vingt-cinq centimes");
+    }
+
+    @Test
+    void frenchDivergesFromBaselineOnlyWhereIntended() {
+        // Au-delà du milliard : milliard, billion... au lieu de « mille millions »
+        assertThat(Baseline.convertToLetter(1_000_000_000L)).isEqualTo("mille millions euros");
+        assertThat(MoneyUtils.convertToLetter(1_000_000_000d)).isEqualTo("un milliard euros");
+        assertThat(MoneyWords.FR.toWords(2_500_000_000L)).isEqualTo("deux milliards cinq cent millions");
+        // Centimes arrondis au demi supérieur sur la valeur décimale, et non sur (montant - euros) * 100
+        assertThat(Baseline.convertToLetter(1.005)).isEqualTo("un euro");
+        assertThat(MoneyUtils.convertToLetter(1.005)).isEqualTo("un euro et un centime");
+        assertThat(MoneyUtils.convertToLetter(0.995)).isEqualTo("un euro");
+    }
+
+    @Test
+    void english() {
+        MoneyWords en = MoneyWords.EN;
+        assertThat(en.convert(0L)).isEqualTo("zero");
+        assertThat(en.convert(100L)).isEqualTo("one euro");
+        assertThat(en.convert(2_101L)).isEqualTo("twenty-one euros and one cent");
+        assertThat(en.convert(11_599L)).isEqualTo("one hundred fifteen euros and ninety-nine cents");
+        assertThat(en.toWords(1_000)).isEqualTo("one thousand");
+        assertThat(en.toWords(2_000_000)).isEqualTo("two million");
+        assertThat(en.toWords(-80)).isEqualTo("minus eighty");
+        assertThat(MoneyUtils.convertToLetter(new BigDecimal("1000001.5"), Lang.EN))
+                .isEqualTo("one million one euros and fifty cents");
+    }
+
+    @Test
+    void convertAllMatchesConvert() {
+        BigDecimal[] amounts = {new BigDecimal("0"), new BigDecimal("21.01"), new BigDecimal("-80.5"),
+                new BigDecimal("123456789012345678901234567.89")};
+        long[] minorUnits = {0, 1, 7_100, -99_999, Long.MIN_VALUE};
+        for (MoneyWords words : new MoneyWords[]{MoneyWords.FR, MoneyWords.EN}) {
+            String[] fromBigDecimals = words.convertAll(amounts);
+            for (int i = 0; i < amounts.length; i++) {
+                assertThat(fromBigDecimals[i]).isEqualTo(words.convert(amounts[i]));
+            }
+            String[] fromMinorUnits = words.convertAll(minorUnits);
+            for (int i = 0; i < minorUnits.length; i++) {
+                assertThat(fromMinorUnits[i]).isEqualTo(words.convert(minorUnits[i]));
+            }
+        }
+        assertThat(MoneyWords.FR.convertAll(new long[]{7_100, 8_000}))
+                .containsExactly("soixante-onze euros", "quatre-vingt euros");
+    }
+
+    /**
+     * {@code MoneyUtils.convertToLetter(double)} avant {@link MoneyWords}.
+     */
+    private static final class Baseline {
+
+        private static final String[] UNITS = {
+                "", "un", "deux", "trois", "quatre", "cinq", "six", "sept", "huit", "neuf",
+                "dix", "onze", "douze", "treize", "quatorze", "quinze", "seize",
+                "dix-sept", "dix-huit", "dix-neuf"
+        };
+
+        private static final String[] TENS = {
+                "", "", "vingt", "trente", "quarante", "cinquante", "soixante",
+                "soixante-dix", "quatre-vingt", "quatre-vingt-dix"
+        };
+
+        static String convertToLetter(double amount) {
+            if (amount < 0) {
+                return "moins " + convertToLetter(-amount);
+            }
+            long euros = (long) amount;
+            int cents = (int) Math.round((amount - euros) * 100);
+            StringBuilder result = new StringBuilder();
+            if (euros == 0) {
+                result.append("zéro");
+            } else {
+                result.append(convertNumber(euros));
+                result.append(euros > 1 ? " euros" : " euro");
+            }
+            if (cents > 0) {
+                result.append(" et ").append(convertNumber(cents));
+                result.append(cents > 1 ? " centimes" : " centime");
+            }
+            return result.toString();
+        }
+
+        private static String convertNumber(long number) {
+            if (number == 0) return "";
+            if (number < 20) return UNITS[(int) number];
+            if (number < 100) return convertTens(number);
+            if (number < 1000) return convertHundreds(number);
+            if (number < 1_000_000) return convertThousands(number);
+            return convertMillions(number);
+        }
+
+        private static String convertTens(long number) {
+            int tens = (int) (number / 10);
+            int unit = (int) (number % 10);
+            if (tens == 7 || tens == 9) {
+                return TENS[tens - 1] + "-" + UNITS[10 + unit];
+            }
+            return TENS[tens] + (unit > 0 ? "-" + UNITS[unit] : "");
+        }
+
+        private static String convertHundreds(long number) {
+            int hundreds = (int) (number / 100);
+            long remainder = number % 100;
+            String result = (hundreds == 1) ? "cent" : UNITS[hundreds] + " cent";
+            if (remainder > 0) result += " " + convertNumber(remainder);
+            return result;
+        }
+
+        private static String convertThousands(long number) {
+            long thousands = number / 1000;
+            long remainder = number % 1000;
+            String result = (thousands == 1) ? "mille" : convertNumber(thousands) + " mille";
+            if (remainder > 0) result += " " + convertNumber(remainder);
+            return result;
+        }
+
+        private static String convertMillions(long number) {
+            long millions = number / 1_000_000;
+            long remainder = number % 1_000_000;
+            String result = (millions == 1) ? "un million" : convertNumber(millions) + " millions";
+            if (remainder > 0) result += " " + convertNumber(remainder);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ovunix.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UniqueNumberGeneratorTest {
+
+    @Test
+    void concurrentCallsNeverCollide() throws InterruptedException {
+        int threads = 8;
+        int perThread = 50_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(UniqueNumberGenerator.generateTimestamp());
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+        assertThat(ids).allMatch(id -> id.matches("\\d{16}"));
+    }
+
+    @Test
+    void valuesAreStrictlyIncreasing() {
+        long previous = Long.parseLong(UniqueNumberGenerator.generateTimestamp());
+        for (int i = 0; i < 10_000; i++) {
+            long next = Long.parseLong(UniqueNumberGenerator.generateTimestamp());
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+}